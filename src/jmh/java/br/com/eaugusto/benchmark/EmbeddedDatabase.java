@@ -0,0 +1,64 @@
+package br.com.eaugusto.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.eaugusto.domain.JPAClient;
+import br.com.eaugusto.domain.JPAProduct;
+
+/**
+ * Shared fixtures of the benchmarks, which run against the in-process H2
+ * database of the <code>Embedded_Benchmark_Database</code> persistence unit.
+ * <p>
+ * The database lives in memory and its schema is created when the unit starts,
+ * so every forked benchmark JVM begins with empty tables.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class EmbeddedDatabase {
+
+	static final String PERSISTENCE_UNIT = "Embedded_Benchmark_Database";
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private EmbeddedDatabase() {
+	}
+
+	/**
+	 * @return a new, unsaved client with a CPF unique within the JVM
+	 */
+	static JPAClient newClient() {
+		long number = SEQUENCE.incrementAndGet();
+		JPAClient client = new JPAClient();
+		client.setName("Benchmark Client " + number);
+		client.setCpf(String.format("%011d", number));
+		client.setPhone("(11) 90000-0000");
+		client.setAddress("Benchmark Street");
+		client.setAddressNumber(String.valueOf(number % 1000));
+		client.setCity("Benchmark City");
+		client.setState("Benchmark State");
+		return client;
+	}
+
+	/**
+	 * @return a new, unsaved product with a code unique within the JVM
+	 */
+	static JPAProduct newProduct() {
+		long number = SEQUENCE.incrementAndGet();
+		JPAProduct product = new JPAProduct();
+		product.setCode("BENCH" + number);
+		product.setName("Benchmark Product " + number);
+		product.setDescription("Benchmark product");
+		product.setPrice(BigDecimal.valueOf(number % 100 + 1, 2));
+		return product;
+	}
+
+	/**
+	 * @param prefix a prefix naming the benchmark
+	 * @return a code unique within the JVM
+	 */
+	static String nextCode(String prefix) {
+		return prefix + SEQUENCE.incrementAndGet();
+	}
+}
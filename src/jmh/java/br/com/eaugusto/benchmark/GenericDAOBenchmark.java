@@ -0,0 +1,150 @@
+package br.com.eaugusto.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.dao.generics.BatchResult;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.dao.generics.JPAGenericDAO;
+import br.com.eaugusto.domain.JPAClient;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Measures the CRUD operations of {@link JPAGenericDAO} on clients.
+ * <p>
+ * <code>rowCount</code> clients are loaded before each trial, so lookups and
+ * <code>findAll</code> run against a table of known size, and
+ * <code>registerAll</code> persists <code>batchSize</code> clients per
+ * operation. The thread count is chosen when running, with <code>-t</code>;
+ * every thread shares one DAO but updates and deletes its own clients.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericDAOBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int rowCount;
+
+	private IJPAGenericDAO<JPAClient, Long> clientDAO;
+
+	private List<Long> ids;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		clientDAO = new JPAGenericDAO<>(JPAClient.class, EmbeddedDatabase.PERSISTENCE_UNIT);
+		clientDAO.deleteAll();
+
+		List<JPAClient> clients = new ArrayList<>(rowCount);
+		for (int index = 0; index < rowCount; index++) {
+			clients.add(EmbeddedDatabase.newClient());
+		}
+		clientDAO.registerAll(clients);
+
+		ids = new ArrayList<>(rowCount);
+		clients.forEach(client -> ids.add(client.getId()));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EntityManagerFactoryRegistry.shutdown(EmbeddedDatabase.PERSISTENCE_UNIT);
+	}
+
+	/**
+	 * Client updated by one benchmark thread, so threads never update the same
+	 * row.
+	 */
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		private JPAClient updatedClient;
+
+		@Setup(Level.Trial)
+		public void setUp(GenericDAOBenchmark benchmark) {
+			updatedClient = benchmark.clientDAO.register(EmbeddedDatabase.newClient());
+		}
+	}
+
+	/**
+	 * Size of the batches persisted by <code>registerAll</code>, kept apart so
+	 * the other benchmarks do not run once per batch size.
+	 */
+	@State(Scope.Thread)
+	public static class BatchState {
+
+		@Param({ "50", "500" })
+		public int batchSize;
+	}
+
+	/**
+	 * Registers, outside the measurement, the client each delete removes.
+	 */
+	@State(Scope.Thread)
+	public static class DeleteState {
+
+		private JPAClient deletedClient;
+
+		@Setup(Level.Invocation)
+		public void registerDeletedClient(GenericDAOBenchmark benchmark) {
+			deletedClient = benchmark.clientDAO.register(EmbeddedDatabase.newClient());
+		}
+	}
+
+	@Benchmark
+	public JPAClient register() {
+		return clientDAO.register(EmbeddedDatabase.newClient());
+	}
+
+	@Benchmark
+	public BatchResult<JPAClient> registerAll(BatchState batchState) {
+		List<JPAClient> clients = new ArrayList<>(batchState.batchSize);
+		for (int index = 0; index < batchState.batchSize; index++) {
+			clients.add(EmbeddedDatabase.newClient());
+		}
+		return clientDAO.registerAll(clients);
+	}
+
+	@Benchmark
+	public JPAClient findById() {
+		return clientDAO.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+	}
+
+	@Benchmark
+	public JPAClient update(ThreadState state) {
+		state.updatedClient.setPhone(String.format("(11) 9%04d-0000", ThreadLocalRandom.current().nextInt(10_000)));
+		return clientDAO.update(state.updatedClient);
+	}
+
+	@Benchmark
+	public void delete(DeleteState deleteState) {
+		clientDAO.delete(deleteState.deletedClient);
+	}
+
+	@Benchmark
+	public Collection<JPAClient> findAll() {
+		return clientDAO.findAll();
+	}
+}
@@ -0,0 +1,97 @@
+package br.com.eaugusto.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.dao.JPASellingDAO;
+import br.com.eaugusto.dao.generics.JPAGenericDAO;
+import br.com.eaugusto.domain.JPAClient;
+import br.com.eaugusto.domain.JPAProduct;
+import br.com.eaugusto.domain.JPASelling;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Measures {@link JPASellingDAO#register(JPASelling)}, which resolves the
+ * sale's client and products before persisting it, and
+ * {@link JPASellingDAO#findWithCollections(Long)}, for sales of
+ * <code>productsPerSale</code> distinct products.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SellingDAOBenchmark {
+
+	@Param({ "1", "10", "50" })
+	public int productsPerSale;
+
+	private final JPASellingDAO sellingDAO = new JPASellingDAO(EmbeddedDatabase.PERSISTENCE_UNIT);
+
+	private JPAClient client;
+
+	private List<JPAProduct> products;
+
+	private Long registeredSellingId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		client = new JPAGenericDAO<>(JPAClient.class, EmbeddedDatabase.PERSISTENCE_UNIT)
+				.register(EmbeddedDatabase.newClient());
+
+		products = new ArrayList<>(productsPerSale);
+		for (int index = 0; index < productsPerSale; index++) {
+			products.add(EmbeddedDatabase.newProduct());
+		}
+		new JPAGenericDAO<>(JPAProduct.class, EmbeddedDatabase.PERSISTENCE_UNIT).registerAll(products);
+
+		registeredSellingId = sellingDAO.register(newSelling()).getId();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EntityManagerFactoryRegistry.shutdown(EmbeddedDatabase.PERSISTENCE_UNIT);
+	}
+
+	@Benchmark
+	public JPASelling register() {
+		return sellingDAO.register(newSelling());
+	}
+
+	@Benchmark
+	public JPASelling findWithCollections() {
+		return sellingDAO.findWithCollections(registeredSellingId);
+	}
+
+	private JPASelling newSelling() {
+		JPASelling selling = new JPASelling();
+		selling.setCode(EmbeddedDatabase.nextCode("SALE"));
+		selling.setClient(client);
+		selling.setDateSold(Instant.now());
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		for (JPAProduct product : products) {
+			selling.addProduct(product, 1);
+		}
+		return selling;
+	}
+}
@@ -0,0 +1,75 @@
+package br.com.eaugusto.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.domain.JPAProduct;
+import br.com.eaugusto.domain.JPASelling;
+
+/**
+ * Measures the in-memory domain logic of {@link JPASelling}, without any
+ * database access.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SellingDomainBenchmark {
+
+	@Param({ "10", "100" })
+	public int productCount;
+
+	private List<JPAProduct> products;
+
+	private JPASelling filledSelling;
+
+	@Setup
+	public void setUp() {
+		products = new ArrayList<>(productCount);
+		for (int index = 0; index < productCount; index++) {
+			JPAProduct product = EmbeddedDatabase.newProduct();
+			product.setId((long) index);
+			products.add(product);
+		}
+		filledSelling = addProducts();
+	}
+
+	@Benchmark
+	public JPASelling addProduct() {
+		return addProducts();
+	}
+
+	@Benchmark
+	public BigDecimal recalculateTotalSellingPrice() {
+		filledSelling.recalculateTotalSellingPrice();
+		return filledSelling.getTotalPrice();
+	}
+
+	private JPASelling addProducts() {
+		JPASelling selling = new JPASelling();
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		for (JPAProduct product : products) {
+			selling.addProduct(product, 2);
+		}
+		return selling;
+	}
+}
@@ -0,0 +1,144 @@
+package br.com.eaugusto.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issues the operations of a {@link SalesWorkload} following an arrival model.
+ * Every operation runs on its own virtual thread.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+abstract class LoadDriver {
+
+	protected final SalesWorkload workload;
+
+	protected LoadDriver(SalesWorkload workload) {
+		this.workload = workload;
+	}
+
+	static LoadDriver of(LoadTestConfig config, SalesWorkload workload, LoadRecorder recorder) {
+		return config.model == LoadTestConfig.Model.OPEN ? new OpenLoop(config, workload, recorder)
+				: new ClosedLoop(config, workload);
+	}
+
+	/**
+	 * Runs the workload until the given time, then waits for the operations
+	 * still running.
+	 *
+	 * @param endAt the {@link System#nanoTime()} at which to stop issuing
+	 *              operations
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	abstract void runUntil(long endAt) throws InterruptedException;
+
+	/**
+	 * Sleeps until the given time without giving up early on spurious wake-ups.
+	 */
+	protected static void parkUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	/**
+	 * Closed loop: a fixed number of users, each starting an operation every
+	 * <code>pacingMs</code> and waiting for it before the next one. If an
+	 * operation overruns its slot, the next one starts late but its response
+	 * time is still measured from its slot. Without pacing, users run back to
+	 * back and response time equals service time.
+	 */
+	private static final class ClosedLoop extends LoadDriver {
+
+		private final int users;
+
+		private final long pacingNanos;
+
+		private ClosedLoop(LoadTestConfig config, SalesWorkload workload) {
+			super(workload);
+			this.users = config.users;
+			this.pacingNanos = TimeUnit.MILLISECONDS.toNanos(config.pacingMillis);
+		}
+
+		@Override
+		void runUntil(long endAt) throws InterruptedException {
+			List<Thread> threads = new ArrayList<>(users);
+			long startAt = System.nanoTime();
+			for (int user = 0; user < users; user++) {
+				long firstSlot = startAt + (pacingNanos > 0 ? ThreadLocalRandom.current().nextLong(pacingNanos) : 0);
+				threads.add(Thread.ofVirtual().name("load-user-" + user).start(() -> runUser(firstSlot, endAt)));
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+
+		private void runUser(long firstSlot, long endAt) {
+			long slot = firstSlot;
+			while (slot < endAt) {
+				parkUntil(slot);
+				long intendedStartAt = pacingNanos > 0 ? slot : System.nanoTime();
+				workload.perform(intendedStartAt);
+				slot = pacingNanos > 0 ? slot + pacingNanos : System.nanoTime();
+			}
+		}
+	}
+
+	/**
+	 * Open loop: operations arrive at a fixed average rate, with uniform or
+	 * exponentially distributed (Poisson) gaps, whether or not earlier ones have
+	 * finished. Response time is measured from the arrival. Arrivals that find
+	 * <code>maxInFlight</code> operations still running are dropped and counted.
+	 */
+	private static final class OpenLoop extends LoadDriver {
+
+		private final double meanGapNanos;
+
+		private final boolean poisson;
+
+		private final int maxInFlight;
+
+		private final LoadRecorder recorder;
+
+		private OpenLoop(LoadTestConfig config, SalesWorkload workload, LoadRecorder recorder) {
+			super(workload);
+			this.meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+			this.poisson = config.arrivals == LoadTestConfig.Arrivals.POISSON;
+			this.maxInFlight = config.maxInFlight;
+			this.recorder = recorder;
+		}
+
+		@Override
+		void runUntil(long endAt) throws InterruptedException {
+			Semaphore inFlight = new Semaphore(maxInFlight);
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				double arrival = System.nanoTime();
+				while (arrival < endAt) {
+					long arrivalAt = (long) arrival;
+					parkUntil(arrivalAt);
+					if (inFlight.tryAcquire()) {
+						executor.execute(() -> {
+							try {
+								workload.perform(arrivalAt);
+							} finally {
+								inFlight.release();
+							}
+						});
+					} else {
+						recorder.recordDropped();
+					}
+					arrival += poisson ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos
+							: meanGapNanos;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package br.com.eaugusto.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.eaugusto.persistence.metrics.LatencyHistogram;
+import br.com.eaugusto.persistence.metrics.LatencySnapshot;
+
+/**
+ * Latencies of a load test, per operation and persistence unit.
+ * <p>
+ * Each operation is recorded twice. The <em>service</em> time runs from the
+ * moment the operation actually started. The <em>response</em> time runs from
+ * the moment it was meant to start, according to the arrival schedule, so an
+ * operation that waited behind a slow one is charged for the wait. That
+ * corrects for coordinated omission: a stalled system cannot hide its stall by
+ * keeping the load generator from sending the requests that would have
+ * measured it.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class LoadRecorder {
+
+	private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private volatile long startedAt = System.nanoTime();
+
+	/**
+	 * @param operation        the operation
+	 * @param unit             the persistence unit it ran on
+	 * @param intendedStartAt  the {@link System#nanoTime()} the schedule set for it
+	 * @param startedAt        the {@link System#nanoTime()} it actually started at
+	 * @param endedAt          the {@link System#nanoTime()} it ended at
+	 * @param failed           whether it threw
+	 */
+	void record(Operation operation, String unit, long intendedStartAt, long startedAt, long endedAt, boolean failed) {
+		Series target = series.computeIfAbsent(operation.getSettingName() + " @ " + unit, key -> new Series());
+		target.service.record(endedAt - startedAt);
+		target.response.record(endedAt - Math.min(intendedStartAt, startedAt));
+		if (failed) {
+			target.errors.increment();
+		}
+	}
+
+	/**
+	 * Counts an arrival an open-loop run could not start because too many
+	 * operations were already running.
+	 */
+	void recordDropped() {
+		dropped.increment();
+	}
+
+	/**
+	 * Discards everything recorded so far, at the end of the warm-up.
+	 */
+	void reset() {
+		series.clear();
+		dropped.reset();
+		startedAt = System.nanoTime();
+	}
+
+	/**
+	 * Prints one line per operation and unit, with latencies in milliseconds.
+	 *
+	 * @param out where to print
+	 */
+	void report(PrintStream out) {
+		double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+		out.printf("%-45s %9s %7s %9s | %-36s | %-36s%n", "operation @ unit", "count", "errors", "ops/s",
+				"service p50 / p99 / p99.9 / max", "response p50 / p99 / p99.9 / max");
+		new TreeMap<>(series).forEach((key, values) -> {
+			LatencySnapshot service = values.service.snapshot();
+			LatencySnapshot response = values.response.snapshot();
+			out.printf("%-45s %9d %7d %9.1f | %-36s | %-36s%n", key, service.getCount(), values.errors.sum(),
+					service.getCount() / seconds, format(service), format(response));
+		});
+		if (dropped.sum() > 0) {
+			out.printf("%d arrivals dropped: the system could not keep up with the offered rate.%n", dropped.sum());
+		}
+	}
+
+	private static String format(LatencySnapshot snapshot) {
+		return String.format("%.2f / %.2f / %.2f / %.2f", snapshot.getP50Nanos() / 1e6, snapshot.getP99Nanos() / 1e6,
+				snapshot.getP999Nanos() / 1e6, snapshot.getMaxNanos() / 1e6);
+	}
+
+	private static final class Series {
+
+		private final LatencyHistogram service = new LatencyHistogram();
+
+		private final LatencyHistogram response = new LatencyHistogram();
+
+		private final LongAdder errors = new LongAdder();
+	}
+}
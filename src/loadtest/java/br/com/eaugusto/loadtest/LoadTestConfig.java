@@ -0,0 +1,137 @@
+package br.com.eaugusto.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test, read from <code>--name=value</code> arguments.
+ *
+ * <pre>
+ * --target=embedded|databases   embedded H2 stand-ins, or the three real units
+ * --model=closed|open           fixed users, or a fixed arrival rate
+ * --users=500                   closed loop: concurrent users
+ * --pacingMs=1000               closed loop: intended time between a user's operations
+ * --rate=500                    open loop: operations started per second
+ * --arrivals=poisson|uniform    open loop: gaps between arrivals
+ * --maxInFlight=5000            open loop: running operations before arrivals are dropped
+ * --warmupSeconds=30            run, then discard, before measuring
+ * --durationSeconds=120         measured run
+ * --products=1000               products seeded in the sales unit
+ * --clients=1000                clients seeded in each client unit
+ * --basketMax=10                most products in one sale
+ * --openSales=10000             most sales waiting to be finalized or cancelled
+ * --mix=checkout=40,finalize=15,cancel=5,findWithCollections=20,findClient=20
+ * </pre>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class LoadTestConfig {
+
+	enum Target {
+		EMBEDDED, DATABASES
+	}
+
+	enum Model {
+		CLOSED, OPEN
+	}
+
+	enum Arrivals {
+		POISSON, UNIFORM
+	}
+
+	Target target = Target.EMBEDDED;
+	Model model = Model.CLOSED;
+	int users = 500;
+	long pacingMillis = 1000;
+	double rate = 500;
+	Arrivals arrivals = Arrivals.POISSON;
+	int maxInFlight = 5000;
+	long warmupSeconds = 30;
+	long durationSeconds = 120;
+	int products = 1000;
+	int clients = 1000;
+	int basketMax = 10;
+	int openSales = 10_000;
+	final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+	private LoadTestConfig() {
+		mix.put(Operation.CHECKOUT, 40);
+		mix.put(Operation.FINALIZE, 15);
+		mix.put(Operation.CANCEL, 5);
+		mix.put(Operation.FIND_WITH_COLLECTIONS, 20);
+		mix.put(Operation.FIND_CLIENT, 20);
+	}
+
+	/**
+	 * @param args the command-line arguments
+	 * @return the settings, with defaults for those not given
+	 * @throws IllegalArgumentException if an argument is unknown or invalid
+	 */
+	static LoadTestConfig parse(String[] args) {
+		LoadTestConfig config = new LoadTestConfig();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (!arg.startsWith("--") || separator < 0) {
+				throw new IllegalArgumentException("Expected --name=value, got " + arg);
+			}
+			config.set(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		config.validate();
+		return config;
+	}
+
+	private void set(String name, String value) {
+		try {
+			switch (name) {
+			case "target" -> target = Target.valueOf(value.toUpperCase());
+			case "model" -> model = Model.valueOf(value.toUpperCase());
+			case "users" -> users = Integer.parseInt(value);
+			case "pacingMs" -> pacingMillis = Long.parseLong(value);
+			case "rate" -> rate = Double.parseDouble(value);
+			case "arrivals" -> arrivals = Arrivals.valueOf(value.toUpperCase());
+			case "maxInFlight" -> maxInFlight = Integer.parseInt(value);
+			case "warmupSeconds" -> warmupSeconds = Long.parseLong(value);
+			case "durationSeconds" -> durationSeconds = Long.parseLong(value);
+			case "products" -> products = Integer.parseInt(value);
+			case "clients" -> clients = Integer.parseInt(value);
+			case "basketMax" -> basketMax = Integer.parseInt(value);
+			case "openSales" -> openSales = Integer.parseInt(value);
+			case "mix" -> parseMix(value);
+			default -> throw new IllegalArgumentException("Unknown setting: " + name);
+			}
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid value for " + name + ": " + value, e);
+		}
+	}
+
+	private void parseMix(String value) {
+		mix.replaceAll((operation, weight) -> 0);
+		for (String entry : value.split(",")) {
+			String[] parts = entry.split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Invalid mix entry: " + entry);
+			}
+			mix.put(Operation.byName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+		}
+	}
+
+	private void validate() {
+		if (users < 1 || pacingMillis < 0 || rate <= 0 || maxInFlight < 1 || warmupSeconds < 0 || durationSeconds < 1
+				|| products < 1 || clients < 1 || basketMax < 1 || openSales < 1) {
+			throw new IllegalArgumentException("Settings must be positive: " + this);
+		}
+		if (mix.values().stream().anyMatch(weight -> weight < 0) || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+			throw new IllegalArgumentException("The mix needs non-negative weights and at least one operation.");
+		}
+	}
+
+	@Override
+	public String toString() {
+		String load = model == Model.CLOSED ? "users=" + users + ", pacingMs=" + pacingMillis
+				: "rate=" + rate + "/s, arrivals=" + arrivals + ", maxInFlight=" + maxInFlight;
+		return "target=" + target + ", model=" + model + ", " + load + ", warmup=" + warmupSeconds + "s, duration="
+				+ durationSeconds + "s, products=" + products + ", clients=" + clients + ", basketMax=" + basketMax
+				+ ", mix=" + mix;
+	}
+}
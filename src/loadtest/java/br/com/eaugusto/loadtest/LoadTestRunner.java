@@ -0,0 +1,65 @@
+package br.com.eaugusto.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Runs a checkout load test and prints service and response latencies per
+ * operation and persistence unit.
+ * <p>
+ * The workload is seeded, run for the warm-up period with its results
+ * discarded, then run for the measured period. For example, 500 concurrent
+ * checkouts against the embedded stand-ins:
+ *
+ * <pre>
+ * java br.com.eaugusto.loadtest.LoadTestRunner --users=500 --pacingMs=500
+ * </pre>
+ *
+ * or a fixed arrival rate against the three real databases:
+ *
+ * <pre>
+ * java br.com.eaugusto.loadtest.LoadTestRunner --target=databases --model=open --rate=800
+ * </pre>
+ *
+ * See {@link LoadTestConfig} for every setting.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class LoadTestRunner {
+
+	private LoadTestRunner() {
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		LoadTestConfig config;
+		try {
+			config = LoadTestConfig.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.exit(2);
+			return;
+		}
+
+		System.out.println("Load test: " + config);
+		LoadRecorder recorder = new LoadRecorder();
+		SalesWorkload workload = new SalesWorkload(config, recorder);
+		LoadDriver driver = LoadDriver.of(config, workload, recorder);
+		try {
+			workload.seed();
+
+			if (config.warmupSeconds > 0) {
+				System.out.println("Warming up for " + config.warmupSeconds + "s...");
+				driver.runUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds));
+			}
+
+			recorder.reset();
+			System.out.println("Measuring for " + config.durationSeconds + "s...");
+			driver.runUntil(System.nanoTime() + TimeUnit.SECONDS.toNanos(config.durationSeconds));
+			recorder.report(System.out);
+		} finally {
+			EntityManagerFactoryRegistry.shutdownAll();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.eaugusto.loadtest;
+
+/**
+ * Operations a simulated client performs, named as in the <code>--mix</code>
+ * setting.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+enum Operation {
+
+	/** Registers a sale with a random basket of products. */
+	CHECKOUT("checkout"),
+
+	/** Finalizes a sale registered earlier in the run. */
+	FINALIZE("finalize"),
+
+	/** Cancels a sale registered earlier in the run. */
+	CANCEL("cancel"),
+
+	/** Loads a recent sale with its client and products. */
+	FIND_WITH_COLLECTIONS("findWithCollections"),
+
+	/** Looks up a seeded client on one of the client units. */
+	FIND_CLIENT("findClient");
+
+	private final String settingName;
+
+	Operation(String settingName) {
+		this.settingName = settingName;
+	}
+
+	String getSettingName() {
+		return settingName;
+	}
+
+	static Operation byName(String name) {
+		for (Operation operation : values()) {
+			if (operation.settingName.equals(name)) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Unknown operation: " + name);
+	}
+}
@@ -0,0 +1,281 @@
+package br.com.eaugusto.loadtest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import br.com.eaugusto.dao.JPAClientDAODB1;
+import br.com.eaugusto.dao.JPAClientDAODB2;
+import br.com.eaugusto.dao.JPAClientDAODB3;
+import br.com.eaugusto.dao.JPAProductDAO;
+import br.com.eaugusto.dao.JPASellingDAO;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.dao.generics.JPAGenericDAO;
+import br.com.eaugusto.domain.JPAClient;
+import br.com.eaugusto.domain.JPAProduct;
+import br.com.eaugusto.domain.JPASelling;
+
+/**
+ * The simulated checkout traffic: seeds products and clients, then performs
+ * one randomly chosen {@link Operation} at a time, following the configured
+ * mix.
+ * <p>
+ * Against the real databases, sales and products live in
+ * <code>JPA_Multi_Database_Testing</code> and clients are read from the units
+ * of {@link JPAClientDAODB1}, {@link JPAClientDAODB2} and
+ * {@link JPAClientDAODB3}. With the embedded target, every unit is stood in
+ * for by the in-memory H2 unit <code>Embedded_Benchmark_Database</code>. The
+ * DAOs are shared by every simulated client.
+ * <p>
+ * Seeded rows and sales are left in the databases, so point the real target
+ * at a disposable environment. Codes and CPFs embed the start time of the run
+ * so repeated runs do not collide.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class SalesWorkload {
+
+	static final String EMBEDDED_UNIT = "Embedded_Benchmark_Database";
+
+	private static final int RECENT_SALES = 4096;
+
+	private static final long RUN_SEED = System.currentTimeMillis() / 1000;
+
+	private final LoadTestConfig config;
+
+	private final LoadRecorder recorder;
+
+	private final String salesUnit;
+
+	private final JPASellingDAO sellingDAO;
+
+	private final IJPAGenericDAO<JPAProduct, Long> productDAO;
+
+	private final List<ClientUnit> clientUnits = new ArrayList<>();
+
+	private final Operation[] operations;
+
+	private final int[] cumulativeWeights;
+
+	private final Queue<JPASelling> openSales = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger openSalesCount = new AtomicInteger();
+
+	private final AtomicLongArray recentSaleIds = new AtomicLongArray(RECENT_SALES);
+
+	private final AtomicLong salesRegistered = new AtomicLong();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final AtomicLong clientSequence = new AtomicLong();
+
+	private List<JPAProduct> products = List.of();
+
+	SalesWorkload(LoadTestConfig config, LoadRecorder recorder) {
+		this.config = config;
+		this.recorder = recorder;
+		if (config.target == LoadTestConfig.Target.EMBEDDED) {
+			salesUnit = EMBEDDED_UNIT;
+			sellingDAO = new JPASellingDAO(EMBEDDED_UNIT);
+			productDAO = new JPAGenericDAO<>(JPAProduct.class, EMBEDDED_UNIT);
+			for (int database = 1; database <= 3; database++) {
+				clientUnits.add(new ClientUnit(EMBEDDED_UNIT + " (DB" + database + " stand-in)",
+						new JPAGenericDAO<>(JPAClient.class, EMBEDDED_UNIT)));
+			}
+		} else {
+			salesUnit = "JPA_Multi_Database_Testing";
+			sellingDAO = new JPASellingDAO();
+			productDAO = new JPAProductDAO();
+			clientUnits.add(new ClientUnit("JPA_Multi_Database_Testing", new JPAClientDAODB1()));
+			clientUnits.add(new ClientUnit("Online_Selling_2", new JPAClientDAODB2()));
+			clientUnits.add(new ClientUnit("My_SQL_Database", new JPAClientDAODB3()));
+		}
+
+		List<Operation> weighted = new ArrayList<>();
+		List<Integer> cumulative = new ArrayList<>();
+		int total = 0;
+		for (Map.Entry<Operation, Integer> entry : config.mix.entrySet()) {
+			if (entry.getValue() > 0) {
+				total += entry.getValue();
+				weighted.add(entry.getKey());
+				cumulative.add(total);
+			}
+		}
+		this.operations = weighted.toArray(new Operation[0]);
+		this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Registers the products and the clients of every client unit, and one sale
+	 * so reads have something to load from the start.
+	 */
+	void seed() {
+		List<JPAProduct> seededProducts = new ArrayList<>(config.products);
+		for (int index = 0; index < config.products; index++) {
+			seededProducts.add(newProduct());
+		}
+		requireSeeded(productDAO.registerAll(seededProducts).isSuccessful(), "products");
+		products = List.copyOf(seededProducts);
+
+		for (ClientUnit unit : clientUnits) {
+			List<JPAClient> clients = new ArrayList<>(config.clients);
+			for (int index = 0; index < config.clients; index++) {
+				clients.add(newClient());
+			}
+			requireSeeded(unit.dao.registerAll(clients).isSuccessful(), "clients on " + unit.name);
+			unit.clients = List.copyOf(clients);
+		}
+
+		checkout();
+	}
+
+	/**
+	 * Performs one operation chosen by the mix and records its latency.
+	 *
+	 * @param intendedStartAt the {@link System#nanoTime()} the schedule set for it
+	 */
+	void perform(long intendedStartAt) {
+		Operation operation = nextOperation();
+		String unit = salesUnit;
+		long startedAt = System.nanoTime();
+		boolean failed = false;
+		try {
+			switch (operation) {
+			case CHECKOUT -> checkout();
+			case FINALIZE -> operation = close(JPASelling.Status.FINISHED) ? operation : Operation.CHECKOUT;
+			case CANCEL -> operation = close(JPASelling.Status.CANCELLED) ? operation : Operation.CHECKOUT;
+			case FIND_WITH_COLLECTIONS -> findRecentSale();
+			case FIND_CLIENT -> unit = findClient();
+			}
+		} catch (RuntimeException e) {
+			failed = true;
+		}
+		recorder.record(operation, unit, intendedStartAt, startedAt, System.nanoTime(), failed);
+	}
+
+	private Operation nextOperation() {
+		int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		for (int index = 0; index < cumulativeWeights.length; index++) {
+			if (draw < cumulativeWeights[index]) {
+				return operations[index];
+			}
+		}
+		return operations[operations.length - 1];
+	}
+
+	private void checkout() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<JPAClient> clients = clientUnits.get(0).clients;
+
+		JPASelling selling = new JPASelling();
+		selling.setCode("LOAD-" + RUN_SEED + "-" + sequence.incrementAndGet());
+		selling.setClient(clients.get(random.nextInt(clients.size())));
+		selling.setDateSold(Instant.now());
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		int basketSize = 1 + random.nextInt(Math.min(config.basketMax, products.size()));
+		while (selling.getProducts().size() < basketSize) {
+			selling.addProduct(products.get(random.nextInt(products.size())), 1 + random.nextInt(5));
+		}
+		sellingDAO.register(selling);
+
+		long registered = salesRegistered.getAndIncrement();
+		recentSaleIds.set((int) (registered % RECENT_SALES), selling.getId());
+		if (openSalesCount.incrementAndGet() <= config.openSales) {
+			openSales.add(selling);
+		} else {
+			openSalesCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Finalizes or cancels an open sale.
+	 *
+	 * @return false if no sale was open, in which case a checkout ran instead
+	 */
+	private boolean close(JPASelling.Status status) {
+		JPASelling selling = openSales.poll();
+		if (selling == null) {
+			checkout();
+			return false;
+		}
+		openSalesCount.decrementAndGet();
+		selling.setSellingStatus(status);
+		if (status == JPASelling.Status.FINISHED) {
+			sellingDAO.finalizeSale(selling);
+		} else {
+			sellingDAO.cancelSale(selling);
+		}
+		return true;
+	}
+
+	private void findRecentSale() {
+		long registered = Math.min(salesRegistered.get(), RECENT_SALES);
+		long id = recentSaleIds.get(ThreadLocalRandom.current().nextInt((int) Math.max(1, registered)));
+		if (id == 0) {
+			id = recentSaleIds.get(0);
+		}
+		sellingDAO.findWithCollections(id);
+	}
+
+	private String findClient() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		ClientUnit unit = clientUnits.get(random.nextInt(clientUnits.size()));
+		unit.dao.findById(unit.clients.get(random.nextInt(unit.clients.size())).getId());
+		return unit.name;
+	}
+
+	private JPAProduct newProduct() {
+		long number = sequence.incrementAndGet();
+		JPAProduct product = new JPAProduct();
+		product.setCode("L" + Long.toString((RUN_SEED % 60_000_000L) * 1_679_616L + number, 36).toUpperCase());
+		product.setName("Load Test Product " + number);
+		product.setDescription("Product seeded by the load test");
+		product.setPrice(BigDecimal.valueOf(100 + number % 9_900, 2));
+		return product;
+	}
+
+	private JPAClient newClient() {
+		long number = clientSequence.incrementAndGet();
+		JPAClient client = new JPAClient();
+		client.setName("Load Test Client " + number);
+		client.setCpf(String.format("%011d", (RUN_SEED % 10_000L) * 10_000_000L + number));
+		client.setPhone("(11) 90000-0000");
+		client.setAddress("Load Test Street");
+		client.setAddressNumber(String.valueOf(number % 1000));
+		client.setCity("Load Test City");
+		client.setState("Load Test State");
+		return client;
+	}
+
+	private static void requireSeeded(boolean successful, String what) {
+		if (!successful) {
+			throw new IllegalStateException("Failed to seed " + what + ".");
+		}
+	}
+
+	/**
+	 * A client DAO with its persistence unit name and seeded clients.
+	 */
+	private static final class ClientUnit {
+
+		private final String name;
+
+		private final IJPAGenericDAO<JPAClient, Long> dao;
+
+		private volatile List<JPAClient> clients = List.of();
+
+		private ClientUnit(String name, IJPAGenericDAO<JPAClient, Long> dao) {
+			this.name = name;
+			this.dao = dao;
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package br.com.eaugusto.dao;
 
+import java.util.Collection;
+import java.util.List;
+
 import br.com.eaugusto.dao.generics.IJPAGenericDAO;
 import br.com.eaugusto.domain.IPersistable;
 import br.com.eaugusto.domain.JPAClient;
@@ -13,4 +16,25 @@ import br.com.eaugusto.domain.JPAClient;
  */
 public interface IJPAClientDAO<T extends IPersistable> extends IJPAGenericDAO<T, Long> {
 
+	/**
+	 * Finds a client by its CPF.
+	 *
+	 * @param cpf the client's CPF
+	 * @return the client, or null if none has that CPF
+	 * @see #findByNaturalId(Object)
+	 */
+	default T findByCpf(String cpf) {
+		return findByNaturalId(cpf);
+	}
+
+	/**
+	 * Finds the clients with any of the given CPFs.
+	 *
+	 * @param cpfs the CPFs
+	 * @return the clients found, in the order of their CPFs
+	 * @see #findByNaturalIds(Collection)
+	 */
+	default List<T> findByCpfs(Collection<String> cpfs) {
+		return findByNaturalIds(cpfs);
+	}
 }
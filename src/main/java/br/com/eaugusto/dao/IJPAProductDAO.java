@@ -1,5 +1,8 @@
 package br.com.eaugusto.dao;
 
+import java.util.Collection;
+import java.util.List;
+
 import br.com.eaugusto.dao.generics.IJPAGenericDAO;
 import br.com.eaugusto.domain.JPAProduct;
 
@@ -12,4 +15,25 @@ import br.com.eaugusto.domain.JPAProduct;
  */
 public interface IJPAProductDAO extends IJPAGenericDAO<JPAProduct, Long> {
 
+	/**
+	 * Finds a product by its code.
+	 *
+	 * @param code the product code
+	 * @return the product, or null if none has that code
+	 * @see #findByNaturalId(Object)
+	 */
+	default JPAProduct findByCode(String code) {
+		return findByNaturalId(code);
+	}
+
+	/**
+	 * Finds the products with any of the given codes.
+	 *
+	 * @param codes the product codes
+	 * @return the products found, in the order of their codes
+	 * @see #findByNaturalIds(Collection)
+	 */
+	default List<JPAProduct> findByCodes(Collection<String> codes) {
+		return findByNaturalIds(codes);
+	}
 }
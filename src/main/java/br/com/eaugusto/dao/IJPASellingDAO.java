@@ -1,5 +1,8 @@
 package br.com.eaugusto.dao;
 
+import java.util.Collection;
+import java.util.List;
+
 import br.com.eaugusto.dao.generics.IJPAGenericDAO;
 import br.com.eaugusto.domain.JPASelling;
 
@@ -34,4 +37,26 @@ public interface IJPASellingDAO extends IJPAGenericDAO<JPASelling, Long> {
      * @return The {@link JPASelling} entity with its relationships.
      */
     JPASelling findWithCollections(Long id);
+
+    /**
+     * Finds a sale by its code.
+     *
+     * @param code The code of the sale.
+     * @return The {@link JPASelling} entity, or null if none has that code.
+     * @see #findByNaturalId(Object)
+     */
+    default JPASelling findByCode(String code) {
+        return findByNaturalId(code);
+    }
+
+    /**
+     * Finds the sales with any of the given codes.
+     *
+     * @param codes The codes of the sales.
+     * @return The {@link JPASelling} entities found, in the order of their codes.
+     * @see #findByNaturalIds(Collection)
+     */
+    default List<JPASelling> findByCodes(Collection<String> codes) {
+        return findByNaturalIds(codes);
+    }
 }
@@ -1,5 +1,13 @@
 package br.com.eaugusto.dao;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -10,6 +18,7 @@ import br.com.eaugusto.domain.JPAClient;
 import br.com.eaugusto.domain.JPAProduct;
 import br.com.eaugusto.domain.JPASelling;
 import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.persistence.metrics.OperationTimer;
 
 /**
  * Concrete DAO implementation for {@link JPASelling}.
@@ -17,9 +26,9 @@ import br.com.eaugusto.exceptions.DAOException;
  * including cascade operations and criteria queries.
  * 
  * Includes logic for:
- * - Registering sales with merged relationships;
+ * - Registering sales with relationships resolved in bulk;
  * - Preventing standard deletion;
- * - Fetching related collections eagerly.
+ * - Fetching related collections through named fetch plans.
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since July 21, 2025
@@ -30,6 +39,15 @@ public class JPASellingDAO extends JPAGenericDAO<JPASelling, Long> implements IJ
         super(JPASelling.class);
     }
 
+    /**
+     * Creates a DAO bound to the given persistence unit, such as a read replica.
+     *
+     * @param persistenceUnitName The name of the persistence unit.
+     */
+    public JPASellingDAO(String persistenceUnitName) {
+        super(JPASelling.class, persistenceUnitName);
+    }
+
     /**
      * Finalizes a sale by updating its status.
      *
@@ -61,6 +79,38 @@ public class JPASellingDAO extends JPAGenericDAO<JPASelling, Long> implements IJ
         throw new UnsupportedOperationException("Operation not allowed");
     }
 
+    /**
+     * Prevents bulk deletion of sales due to business rules.
+     *
+     * @throws UnsupportedOperationException If deletion is attempted.
+     */
+    @Override
+    public int deleteAll() {
+        throw new UnsupportedOperationException("Operation not allowed");
+    }
+
+    /**
+     * Prevents bulk deletion of sales due to business rules.
+     *
+     * @param ids The IDs of the sales.
+     * @throws UnsupportedOperationException If deletion is attempted.
+     */
+    @Override
+    public int deleteByIds(Collection<Long> ids) {
+        throw new UnsupportedOperationException("Operation not allowed");
+    }
+
+    /**
+     * Prevents bulk deletion of sales due to business rules.
+     *
+     * @param criteria The criteria of the sales.
+     * @throws UnsupportedOperationException If deletion is attempted.
+     */
+    @Override
+    public int deleteWhere(Map<String, ?> criteria) {
+        throw new UnsupportedOperationException("Operation not allowed");
+    }
+
 	/**
 	 * Used only for test cleanup purposes.
 	 *
@@ -71,7 +121,11 @@ public class JPASellingDAO extends JPAGenericDAO<JPASelling, Long> implements IJ
     }
 
     /**
-     * Registers a new sale with cascaded client and product merge.
+     * Registers a new sale, resolving its client and products in bulk.
+     * <p>
+     * After the commit, the sale gets the caller's client instance back, since
+     * the reference used to persist it cannot be loaded once the connection is
+     * closed.
      *
      * @param entity The {@link JPASelling} entity to register.
      * @return The registered {@link JPASelling} entity.
@@ -79,41 +133,97 @@ public class JPASellingDAO extends JPAGenericDAO<JPASelling, Long> implements IJ
      */
     @Override
     public JPASelling register(JPASelling entity) {
+        JPAClient client = entity == null ? null : entity.getClient();
+        OperationTimer timer = startOperation("register");
+        EntityManager entityManager = null;
         try {
-            openConnection();
-            entity.getProducts().forEach(productQuantity -> {
-                JPAProduct productJpa = entityManager.merge(productQuantity.getProduct());
-                productQuantity.setProduct(productJpa);
-            });
-            JPAClient client = entityManager.merge(entity.getClient());
-            entity.setClient(client);
-            entityManager.persist(entity);
-            entityManager.getTransaction().commit();
-            closeConnection();
+            entityManager = openConnection();
+            persistEntity(entityManager, entity);
+            commitTransaction(entityManager);
+            timer.succeeded(1);
             return entity;
         } catch (Exception exception) {
             throw new DAOException("Error saving sale", exception);
+        } finally {
+            closeConnection(entityManager);
+            timer.close();
+            if (client != null && !isInUnitOfWork()) {
+                entity.setClient(client);
+            }
+        }
+    }
+
+    /**
+     * Attaches the client and products of the sale to the current persistence
+     * context before persisting it, with at most one query. Also used by batch
+     * registration.
+     * <p>
+     * Already persisted products are loaded together with a single
+     * <code>WHERE id IN (...)</code> query, and an already persisted client is
+     * attached as a reference without being loaded. New products and clients are
+     * merged. Changes made to already persisted products or clients are not
+     * written; update them through their own DAOs. The product quantity rows are
+     * inserted in JDBC batches along with the sale.
+     *
+     * @param entityManager The EntityManager of the current operation.
+     * @param entity        The {@link JPASelling} entity to persist.
+     */
+    @Override
+    protected void persistEntity(EntityManager entityManager, JPASelling entity) {
+        Set<Long> productIds = entity.getProducts().stream()
+                .map(productQuantity -> productQuantity.getProduct().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, JPAProduct> products = productIds.isEmpty() ? Map.of()
+                : entityManager.createQuery("SELECT p FROM JPAProduct p WHERE p.id IN :ids", JPAProduct.class)
+                        .setParameter("ids", productIds)
+                        .getResultStream()
+                        .collect(Collectors.toMap(JPAProduct::getId, Function.identity()));
+
+        entity.getProducts().forEach(productQuantity -> {
+            JPAProduct product = productQuantity.getProduct();
+            JPAProduct productJpa = product.getId() == null ? entityManager.merge(product) : products.get(product.getId());
+            if (productJpa == null) {
+                throw new DAOException("Product " + product.getId() + " does not exist.");
+            }
+            productQuantity.setProduct(productJpa);
+        });
+
+        JPAClient client = entity.getClient();
+        if (client != null && client.getId() != null) {
+            entity.setClient(entityManager.getReference(JPAClient.class, client.getId()));
+        } else if (client != null) {
+            entity.setClient(entityManager.merge(client));
         }
+        entityManager.persist(entity);
     }
 
     /**
-     * Retrieves a sale with all its collections loaded (client and products).
+     * Retrieves a sale with all its collections loaded (client, products and
+     * each product's details) through the {@link JPASelling#GRAPH_FULL} fetch
+     * plan, over a read-only connection.
      *
      * @param id The ID of the sale.
      * @return The {@link JPASelling} entity with collections fetched.
      */
     @Override
     public JPASelling findWithCollections(Long id) {
-        openConnection();
-        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<JPASelling> query = builder.createQuery(JPASelling.class);
-        Root<JPASelling> root = query.from(JPASelling.class);
-        root.fetch("client");
-        root.fetch("products");
-        query.select(root).where(builder.equal(root.get("id"), id));
-        TypedQuery<JPASelling> typedQuery = entityManager.createQuery(query);
-        JPASelling sale = typedQuery.getSingleResult();
-        closeConnection();
-        return sale;
+        OperationTimer timer = startOperation("findWithCollections");
+        EntityManager entityManager = null;
+        try {
+            entityManager = openReadOnlyConnection();
+            CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<JPASelling> query = builder.createQuery(JPASelling.class);
+            Root<JPASelling> root = query.from(JPASelling.class);
+            query.select(root).where(builder.equal(root.get("id"), id));
+            TypedQuery<JPASelling> typedQuery = entityManager.createQuery(query);
+            applyFetchPlan(entityManager, typedQuery, JPASelling.GRAPH_FULL);
+            JPASelling selling = typedQuery.getSingleResult();
+            timer.succeeded();
+            return selling;
+        } finally {
+            closeConnection(entityManager);
+            timer.close();
+        }
     }
 }
@@ -0,0 +1,153 @@
+package br.com.eaugusto.dao.generics;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * {@link IAsyncJPAGenericDAO} that runs each operation of a blocking DAO on its
+ * own virtual thread.
+ * <p>
+ * Virtual threads make waiting on the database cheap, but each running
+ * operation still holds a pooled connection. The number of operations running
+ * at once is therefore capped per persistence unit, shared by every async DAO
+ * of the unit, by the <code>br.com.eaugusto.async.max_concurrency</code>
+ * property, which defaults to the connection pool's maximum size. Operations
+ * over the cap wait on their virtual thread without blocking the caller.
+ * <p>
+ * Every operation runs on the same blocking DAO, which holds no per-operation
+ * state and so can serve all the virtual threads at once.
+ *
+ * @param <T> the type of entity
+ * @param <E> the type of entity ID
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class AsyncJPAGenericDAO<T extends IPersistable, E extends Serializable> implements IAsyncJPAGenericDAO<T, E> {
+
+	public static final String MAX_CONCURRENCY = "br.com.eaugusto.async.max_concurrency";
+
+	private static final String POOL_MAX_SIZE = "br.com.eaugusto.pool.max_size";
+
+	private static final ExecutorService EXECUTOR = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-dao-", 0).factory());
+
+	private static final Map<String, Semaphore> LIMITS = new ConcurrentHashMap<>();
+
+	private final IJPAGenericDAO<T, E> dao;
+
+	private final String persistenceUnitName;
+
+	public AsyncJPAGenericDAO(Class<T> entityClass, String persistenceUnitName) {
+		this(new JPAGenericDAO<>(entityClass, persistenceUnitName), persistenceUnitName);
+	}
+
+	/**
+	 * @param dao                 the blocking DAO shared by every operation
+	 * @param persistenceUnitName the unit whose concurrency limit applies
+	 */
+	public AsyncJPAGenericDAO(IJPAGenericDAO<T, E> dao, String persistenceUnitName) {
+		if (dao == null || persistenceUnitName == null) {
+			throw new DAOParameterException("DAO and persistence unit name cannot be null.");
+		}
+		this.dao = dao;
+		this.persistenceUnitName = persistenceUnitName;
+	}
+
+	@Override
+	public CompletableFuture<T> registerAsync(T entity) {
+		return submit(dao -> dao.register(entity));
+	}
+
+	@Override
+	public CompletableFuture<BatchResult<T>> registerAllAsync(Collection<T> entities) {
+		return submit(dao -> dao.registerAll(entities));
+	}
+
+	@Override
+	public CompletableFuture<Void> deleteAsync(T entity) {
+		return submit(dao -> {
+			dao.delete(entity);
+			return null;
+		});
+	}
+
+	@Override
+	public CompletableFuture<T> updateAsync(T entity) {
+		return submit(dao -> dao.update(entity));
+	}
+
+	@Override
+	public CompletableFuture<T> findByIdAsync(E id) {
+		return submit(dao -> dao.findById(id));
+	}
+
+	@Override
+	public CompletableFuture<Collection<T>> findAllAsync() {
+		return submit(IJPAGenericDAO::findAll);
+	}
+
+	@Override
+	public CompletableFuture<Page<T>> findPageAsync(E afterId, int limit) {
+		return submit(dao -> dao.findPage(afterId, limit));
+	}
+
+	@Override
+	public CompletableFuture<Page<T>> findPageAsync(String sortAttribute, String cursor, int limit) {
+		return submit(dao -> dao.findPage(sortAttribute, cursor, limit));
+	}
+
+	@Override
+	public CompletableFuture<Void> forEachAsync(Consumer<T> action) {
+		return submit(dao -> {
+			dao.forEach(action);
+			return null;
+		});
+	}
+
+	/**
+	 * @return the number of operations of the unit that may start right now
+	 */
+	public int getAvailablePermits() {
+		return limitOf(persistenceUnitName).availablePermits();
+	}
+
+	private <R> CompletableFuture<R> submit(Function<IJPAGenericDAO<T, E>, R> operation) {
+		return CompletableFuture.supplyAsync(() -> {
+			Semaphore limit = limitOf(persistenceUnitName);
+			try {
+				limit.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(new DAOException("Interrupted while waiting to run an operation.", e));
+			}
+			try {
+				return operation.apply(dao);
+			} finally {
+				limit.release();
+			}
+		}, EXECUTOR);
+	}
+
+	private static Semaphore limitOf(String persistenceUnitName) {
+		return LIMITS.computeIfAbsent(persistenceUnitName, unitName -> {
+			int poolSize = EntityManagerFactoryRegistry.getIntProperty(unitName, POOL_MAX_SIZE, 10);
+			int permits = EntityManagerFactoryRegistry.getIntProperty(unitName, MAX_CONCURRENCY, poolSize);
+			return new Semaphore(Math.max(1, permits), true);
+		});
+	}
+}
@@ -0,0 +1,99 @@
+package br.com.eaugusto.dao.generics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a batch registration, made of one {@link ChunkResult} per
+ * transaction.
+ *
+ * @param <T> the type of entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class BatchResult<T> {
+
+	private final List<ChunkResult<T>> chunks = new ArrayList<>();
+
+	void add(ChunkResult<T> chunk) {
+		chunks.add(chunk);
+	}
+
+	/**
+	 * Builds the result of a batch written by other means, such as across
+	 * several databases, as one successful chunk followed by one failed chunk.
+	 * Either chunk is left out when empty.
+	 *
+	 * @param registeredCount the number of entities committed
+	 * @param failedEntities  the entities that were not committed
+	 * @param failure         the cause of the failed entities
+	 * @return the result
+	 */
+	public static <T> BatchResult<T> of(int registeredCount, List<T> failedEntities, Exception failure) {
+		BatchResult<T> result = new BatchResult<>();
+		if (registeredCount > 0) {
+			result.add(ChunkResult.succeeded(0, registeredCount));
+		}
+		if (!failedEntities.isEmpty()) {
+			result.add(ChunkResult.failed(result.chunks.size(), new ArrayList<>(failedEntities), failure));
+		}
+		return result;
+	}
+
+	/**
+	 * Joins the results of several batches, numbering their chunks in order.
+	 *
+	 * @param results the results to join
+	 * @return the joined result
+	 */
+	public static <T> BatchResult<T> merge(List<BatchResult<T>> results) {
+		BatchResult<T> merged = new BatchResult<>();
+		for (BatchResult<T> result : results) {
+			result.chunks.forEach(chunk -> merged.add(chunk.withIndex(merged.chunks.size())));
+		}
+		return merged;
+	}
+
+	/**
+	 * Replaces the entities of the failed chunks, for instance to hand back the
+	 * caller's entities instead of the copies that were written.
+	 *
+	 * @param mapper maps each failed entity to its replacement
+	 * @return a result with the same chunks and the replaced entities
+	 */
+	public <R> BatchResult<R> map(Function<? super T, ? extends R> mapper) {
+		BatchResult<R> mapped = new BatchResult<>();
+		chunks.forEach(chunk -> mapped.add(chunk.map(mapper)));
+		return mapped;
+	}
+
+	public List<ChunkResult<T>> getChunks() {
+		return Collections.unmodifiableList(chunks);
+	}
+
+	public List<ChunkResult<T>> getFailedChunks() {
+		return chunks.stream().filter(chunk -> !chunk.isSuccessful()).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return every entity of every failed chunk, ready to be retried
+	 */
+	public List<T> getFailedEntities() {
+		return chunks.stream().flatMap(chunk -> chunk.getFailedEntities().stream()).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the number of entities committed by successful chunks
+	 */
+	public int getRegisteredCount() {
+		return chunks.stream().filter(ChunkResult::isSuccessful).mapToInt(ChunkResult::getSize).sum();
+	}
+
+	public boolean isSuccessful() {
+		return chunks.stream().allMatch(ChunkResult::isSuccessful);
+	}
+}
@@ -0,0 +1,86 @@
+package br.com.eaugusto.dao.generics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of one chunk of a batch registration.
+ * <p>
+ * Each chunk is written in its own transaction, so it either succeeds or fails
+ * as a whole. Failed chunks keep their entities, with identifiers reset, so
+ * they can be passed back to
+ * {@link IJPAGenericDAO#registerAll(java.util.Collection)} for a retry.
+ *
+ * @param <T> the type of entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class ChunkResult<T> {
+
+	private final int index;
+
+	private final int size;
+
+	private final List<T> failedEntities;
+
+	private final Exception failure;
+
+	private ChunkResult(int index, int size, List<T> failedEntities, Exception failure) {
+		this.index = index;
+		this.size = size;
+		this.failedEntities = failedEntities;
+		this.failure = failure;
+	}
+
+	static <T> ChunkResult<T> succeeded(int index, int size) {
+		return new ChunkResult<>(index, size, Collections.emptyList(), null);
+	}
+
+	static <T> ChunkResult<T> failed(int index, List<T> entities, Exception failure) {
+		return new ChunkResult<>(index, entities.size(), Collections.unmodifiableList(entities), failure);
+	}
+
+	ChunkResult<T> withIndex(int newIndex) {
+		return new ChunkResult<>(newIndex, size, failedEntities, failure);
+	}
+
+	<R> ChunkResult<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = failedEntities.stream().map(mapper).collect(Collectors.toList());
+		return new ChunkResult<>(index, size, Collections.unmodifiableList(mapped), failure);
+	}
+
+	/**
+	 * @return the position of the chunk in the batch, starting at zero
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the number of entities in the chunk
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	public boolean isSuccessful() {
+		return failure == null;
+	}
+
+	/**
+	 * @return the entities of a failed chunk, or an empty list if it succeeded
+	 */
+	public List<T> getFailedEntities() {
+		return failedEntities;
+	}
+
+	/**
+	 * @return the exception that rolled the chunk back, or null if it succeeded
+	 */
+	public Exception getFailure() {
+		return failure;
+	}
+}
@@ -0,0 +1,164 @@
+package br.com.eaugusto.dao.generics;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+
+/**
+ * Base class for DAOs that route operations to other {@link IJPAGenericDAO}
+ * instances instead of talking to a persistence unit themselves.
+ * <p>
+ * By default, read operations are forwarded to {@link #readDelegate()} and
+ * write operations to {@link #writeDelegate()}. Subclasses override the
+ * operations they route differently, such as fanning writes out to several
+ * databases or choosing a shard per entity.
+ *
+ * @param <T> the type of entity
+ * @param <E> the type of entity ID
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public abstract class DelegatingJPAGenericDAO<T extends IPersistable, E extends Serializable>
+		implements IJPAGenericDAO<T, E> {
+
+	/**
+	 * @return the DAO that serves read operations
+	 */
+	protected abstract IJPAGenericDAO<T, E> readDelegate();
+
+	/**
+	 * @return the DAO that serves write operations
+	 */
+	protected abstract IJPAGenericDAO<T, E> writeDelegate();
+
+	@Override
+	public T register(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().register(entity);
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Collection<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().registerAll(entities);
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Stream<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().registerAll(entities);
+	}
+
+	@Override
+	public void delete(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		writeDelegate().delete(entity);
+	}
+
+	@Override
+	public T update(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().update(entity);
+	}
+
+	@Override
+	public int deleteAll() throws DAOException, DatabaseConnectionException {
+		return writeDelegate().deleteAll();
+	}
+
+	@Override
+	public int deleteByIds(Collection<E> ids) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().deleteByIds(ids);
+	}
+
+	@Override
+	public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().deleteWhere(criteria);
+	}
+
+	@Override
+	public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return writeDelegate().updateWhere(criteria, assignments);
+	}
+
+	@Override
+	public T findById(E id) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findById(id);
+	}
+
+	@Override
+	public Collection<T> findAll() throws DAOException, DatabaseConnectionException {
+		return readDelegate().findAll();
+	}
+
+	@Override
+	public Page<T> findPage(E afterId, int limit) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findPage(afterId, limit);
+	}
+
+	@Override
+	public T findById(E id, String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findById(id, fetchPlan);
+	}
+
+	@Override
+	public T findByNaturalId(Object naturalId) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findByNaturalId(naturalId);
+	}
+
+	@Override
+	public List<T> findByNaturalIds(Collection<?> naturalIds)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findByNaturalIds(naturalIds);
+	}
+
+	@Override
+	public Collection<T> findAll(String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findAll(fetchPlan);
+	}
+
+	@Override
+	public Page<T> findPage(E afterId, int limit, String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findPage(afterId, limit, fetchPlan);
+	}
+
+	@Override
+	public Page<T> findPage(String sortAttribute, String cursor, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findPage(sortAttribute, cursor, limit);
+	}
+
+	@Override
+	public Stream<T> streamAll() throws DAOException, DatabaseConnectionException {
+		return readDelegate().streamAll();
+	}
+
+	@Override
+	public void forEach(Consumer<T> action) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		readDelegate().forEach(action);
+	}
+
+	@Override
+	public <P> List<P> findAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findAllAs(projection);
+	}
+
+	@Override
+	public <P> Page<P> findPageAs(Class<P> projection, E afterId, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().findPageAs(projection, afterId, limit);
+	}
+
+	@Override
+	public <P> Stream<P> streamAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readDelegate().streamAllAs(projection);
+	}
+}
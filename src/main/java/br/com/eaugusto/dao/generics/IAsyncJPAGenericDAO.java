@@ -0,0 +1,92 @@
+package br.com.eaugusto.dao.generics;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import br.com.eaugusto.domain.IPersistable;
+
+/**
+ * Non-blocking counterpart of {@link IJPAGenericDAO}.
+ * <p>
+ * Every operation returns immediately with a {@link CompletableFuture} that
+ * completes with the result of the matching {@link IJPAGenericDAO} operation,
+ * or exceptionally with the exception it threw. Independent lookups can be
+ * started together and combined, instead of waiting for each one in turn.
+ *
+ * @param <T> the type of entity (must implement IPersistable)
+ * @param <E> the type of the entity ID (must be Serializable)
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public interface IAsyncJPAGenericDAO<T extends IPersistable, E extends Serializable> {
+
+	/**
+	 * @param entity the entity to be persisted
+	 * @return a future of the persisted entity
+	 * @see IJPAGenericDAO#register(IPersistable)
+	 */
+	public CompletableFuture<T> registerAsync(T entity);
+
+	/**
+	 * @param entities the entities to be persisted
+	 * @return a future of the result of each chunk
+	 * @see IJPAGenericDAO#registerAll(Collection)
+	 */
+	public CompletableFuture<BatchResult<T>> registerAllAsync(Collection<T> entities);
+
+	/**
+	 * @param entity the entity to be removed
+	 * @return a future completed once the entity is deleted
+	 * @see IJPAGenericDAO#delete(IPersistable)
+	 */
+	public CompletableFuture<Void> deleteAsync(T entity);
+
+	/**
+	 * @param entity the entity to be updated
+	 * @return a future of the updated entity
+	 * @see IJPAGenericDAO#update(IPersistable)
+	 */
+	public CompletableFuture<T> updateAsync(T entity);
+
+	/**
+	 * @param id the entity ID
+	 * @return a future of the found entity, or of null if not found
+	 * @see IJPAGenericDAO#findById(Serializable)
+	 */
+	public CompletableFuture<T> findByIdAsync(E id);
+
+	/**
+	 * @return a future of all entities of type T
+	 * @see IJPAGenericDAO#findAll()
+	 */
+	public CompletableFuture<Collection<T>> findAllAsync();
+
+	/**
+	 * @param afterId the ID of the last entity of the previous page, or null
+	 * @param limit   the maximum number of entities of the page
+	 * @return a future of the page
+	 * @see IJPAGenericDAO#findPage(Serializable, int)
+	 */
+	public CompletableFuture<Page<T>> findPageAsync(E afterId, int limit);
+
+	/**
+	 * @param sortAttribute the attribute to sort by
+	 * @param cursor        the cursor of the previous page, or null
+	 * @param limit         the maximum number of entities of the page
+	 * @return a future of the page
+	 * @see IJPAGenericDAO#findPage(String, String, int)
+	 */
+	public CompletableFuture<Page<T>> findPageAsync(String sortAttribute, String cursor, int limit);
+
+	/**
+	 * Applies the action to every entity on a background thread.
+	 *
+	 * @param action the action to apply to each entity
+	 * @return a future completed once every entity was processed
+	 * @see IJPAGenericDAO#forEach(Consumer)
+	 */
+	public CompletableFuture<Void> forEachAsync(Consumer<T> action);
+}
@@ -2,6 +2,10 @@ package br.com.eaugusto.dao.generics;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import br.com.eaugusto.domain.IPersistable;
 import br.com.eaugusto.exceptions.DAOException;
@@ -33,6 +37,32 @@ public interface IJPAGenericDAO<T extends IPersistable, E extends Serializable>
      */
     public T register(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException;
 
+    /**
+     * Registers (persists) many new entities using JDBC statement batching.
+     * <p>
+     * Entities are written in chunks, one transaction per chunk, and the
+     * persistence context is flushed and cleared periodically to keep memory
+     * flat. A failed chunk is rolled back without affecting the others.
+     *
+     * @param entities the entities to be persisted
+     * @return the result of each chunk, including the entities of failed ones
+     * @throws DAOParameterException if the collection is null
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public BatchResult<T> registerAll(Collection<T> entities) throws DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Registers (persists) the entities of a stream using JDBC statement batching.
+     * Only one chunk of the stream is held in memory at a time.
+     *
+     * @param entities the entities to be persisted
+     * @return the result of each chunk, including the entities of failed ones
+     * @throws DAOParameterException if the stream is null
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #registerAll(Collection)
+     */
+    public BatchResult<T> registerAll(Stream<T> entities) throws DAOParameterException, DatabaseConnectionException;
+
     /**
      * Deletes the given entity from the database.
      *
@@ -54,6 +84,55 @@ public interface IJPAGenericDAO<T extends IPersistable, E extends Serializable>
      */
     public T update(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException;
 
+    /**
+     * Deletes every entity of type T with a single bulk statement, without
+     * loading them.
+     *
+     * @return the number of deleted entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public int deleteAll() throws DAOException, DatabaseConnectionException;
+
+    /**
+     * Deletes the entities with the given identifiers through bulk statements,
+     * without loading them. IDs are sent in chunks, one transaction per chunk.
+     *
+     * @param ids the IDs of the entities to be removed
+     * @return the number of deleted entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the collection or any ID is null
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public int deleteByIds(Collection<E> ids) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Deletes the entities whose attributes equal the given values with a single
+     * bulk statement. A null value matches null columns.
+     *
+     * @param criteria the attribute names and the values they must equal
+     * @return the number of deleted entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the criteria are empty or name unknown attributes
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Sets attributes of the entities matching the criteria with a single bulk
+     * statement, without loading them.
+     *
+     * @param criteria    the attribute names and the values they must equal
+     * @param assignments the attribute names and their new values
+     * @return the number of updated entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the criteria or assignments are empty, name
+     *                               unknown attributes or assign the ID
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+            throws DAOException, DAOParameterException, DatabaseConnectionException;
+
     /**
      * Finds an entity by its identifier.
      *
@@ -65,6 +144,56 @@ public interface IJPAGenericDAO<T extends IPersistable, E extends Serializable>
      */
     public T findById(E id) throws DAOException, DAOParameterException, DatabaseConnectionException;
 
+    /**
+     * Finds an entity by its identifier, loading the attributes of the given
+     * fetch plan with it.
+     * <p>
+     * A fetch plan is the name of a <code>@NamedEntityGraph</code> declared on
+     * the entity. Attributes outside the plan follow their mapping, so lazy
+     * associations stay unloaded and must not be read once the entity is
+     * returned.
+     *
+     * @param id        the entity ID
+     * @param fetchPlan the name of the entity graph to load, or null to follow
+     *                  the mapping
+     * @return the found entity or null if not found
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the ID is null or the fetch plan is unknown
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public T findById(E id, String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Finds an entity by its natural key, the unique attribute annotated with
+     * <code>@NaturalId</code>, such as a client's CPF or a product's code.
+     * <p>
+     * For <code>@Cacheable</code> entities, the key is resolved to an ID through
+     * a bounded cache, so repeated lookups are served without the database. The
+     * cache is invalidated by <code>update</code> and <code>delete</code>.
+     *
+     * @param naturalId the natural key
+     * @return the found entity or null if not found
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the key is null or the entity has no natural key
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public T findByNaturalId(Object naturalId) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Finds the entities with any of the given natural keys, querying the keys
+     * that are not cached together.
+     *
+     * @param naturalIds the natural keys
+     * @return the found entities, in the order of their keys; missing keys are skipped
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the collection or a key is null, or the
+     *                               entity has no natural key
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #findByNaturalId(Object)
+     */
+    public List<T> findByNaturalIds(Collection<?> naturalIds)
+            throws DAOException, DAOParameterException, DatabaseConnectionException;
+
     /**
      * Retrieves all entities of type T from the database.
      *
@@ -73,4 +202,157 @@ public interface IJPAGenericDAO<T extends IPersistable, E extends Serializable>
      * @throws DatabaseConnectionException if there is a problem connecting to the database
      */
     public Collection<T> findAll() throws DAOException, DatabaseConnectionException;
+
+    /**
+     * Retrieves all entities of type T, loading the attributes of the given
+     * fetch plan with them.
+     *
+     * @param fetchPlan the name of the entity graph to load, or null to follow
+     *                  the mapping
+     * @return a collection of all entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the fetch plan is unknown
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #findById(Serializable, String)
+     */
+    public Collection<T> findAll(String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Retrieves one page of entities ordered by ID using keyset pagination
+     * (<code>WHERE id &gt; ? ORDER BY id LIMIT ?</code>), so every page costs the
+     * same regardless of its position.
+     *
+     * @param afterId the ID of the last entity of the previous page, or null for
+     *                the first page
+     * @param limit   the maximum number of entities in the page
+     * @return the page, with the cursor of the next page if there is one
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the limit is not positive
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public Page<T> findPage(E afterId, int limit) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Retrieves one page of entities ordered by ID, loading the attributes of
+     * the given fetch plan with them.
+     * <p>
+     * Plans that fetch a collection cannot be limited by the database and are
+     * paged in memory; prefer plans of single-valued associations for large
+     * tables and let collections load lazily in batches.
+     *
+     * @param afterId   the ID of the last entity of the previous page, or null
+     *                  for the first page
+     * @param limit     the maximum number of entities in the page
+     * @param fetchPlan the name of the entity graph to load, or null to follow
+     *                  the mapping
+     * @return the page, with the cursor of the next page if there is one
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the limit is not positive or the fetch plan
+     *                               is unknown
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #findById(Serializable, String)
+     */
+    public Page<T> findPage(E afterId, int limit, String fetchPlan)
+            throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Retrieves one page of entities ordered by the given attribute, using the
+     * ID as tie-breaker. The sort attribute must be a basic, non-nullable
+     * attribute and should be indexed for constant page cost.
+     *
+     * @param sortAttribute the name of the entity attribute to sort by
+     * @param cursor        the {@link Page#getNextCursor()} token of the previous
+     *                      page, or null for the first page
+     * @param limit         the maximum number of entities in the page
+     * @return the page, with the cursor of the next page if there is one
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the attribute is unknown, nullable or an
+     *                               association, or the cursor or limit is invalid
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public Page<T> findPage(String sortAttribute, String cursor, int limit)
+            throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Streams all entities of type T through a server-side cursor, without
+     * loading the whole table into memory. Entities are detached in batches
+     * once the consumer has moved past them, so lazy associations can be loaded
+     * while an entity is being handled but not after the stream advances.
+     * <p>
+     * The stream holds an open connection and must be closed, preferably with
+     * try-with-resources.
+     *
+     * @return a lazily populated stream of all entities
+     * @throws DAOException if a persistence error occurs
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public Stream<T> streamAll() throws DAOException, DatabaseConnectionException;
+
+    /**
+     * Applies the given action to every entity of type T, reading them through a
+     * server-side cursor. Memory usage does not grow with the table size.
+     *
+     * @param action the action to apply to each entity
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the action is null
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public void forEach(Consumer<T> action) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Retrieves only the attributes named by a projection for all entities,
+     * ordered by ID, without loading the entities themselves.
+     * <p>
+     * The projection is either a record, whose components name the selected
+     * attributes, or an interface, whose getters do. Projections are plain
+     * values: they are never managed and hold no lazy associations.
+     *
+     * <pre>
+     * record ClientSummary(Long id, String name, String cpf) {}
+     * List&lt;ClientSummary&gt; summaries = clientDAO.findAllAs(ClientSummary.class);
+     * </pre>
+     *
+     * @param <P> the type of projection
+     * @param projection the record or interface to map each row onto
+     * @return the projection of every entity
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the projection is not a record or interface,
+     *                               or names attributes the entity lacks
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     */
+    public <P> List<P> findAllAs(Class<P> projection) throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Retrieves one page of projections ordered by ID using keyset pagination.
+     * The ID is read for the cursor even when the projection does not expose it.
+     *
+     * @param <P> the type of projection
+     * @param projection the record or interface to map each row onto
+     * @param afterId    the ID of the last entity of the previous page, or null for
+     *                   the first page
+     * @param limit      the maximum number of projections in the page
+     * @return the page, with the cursor of the next page if there is one
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the projection is invalid or the limit is not positive
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #findAllAs(Class)
+     */
+    public <P> Page<P> findPageAs(Class<P> projection, E afterId, int limit)
+            throws DAOException, DAOParameterException, DatabaseConnectionException;
+
+    /**
+     * Streams the projections of all entities through a server-side cursor.
+     * <p>
+     * The stream holds an open connection and must be closed, preferably with
+     * try-with-resources.
+     *
+     * @param <P> the type of projection
+     * @param projection the record or interface to map each row onto
+     * @return a lazily populated stream of projections, ordered by ID
+     * @throws DAOException if a persistence error occurs
+     * @throws DAOParameterException if the projection is invalid
+     * @throws DatabaseConnectionException if there is a problem connecting to the database
+     * @see #findAllAs(Class)
+     */
+    public <P> Stream<P> streamAllAs(Class<P> projection) throws DAOException, DAOParameterException, DatabaseConnectionException;
 }
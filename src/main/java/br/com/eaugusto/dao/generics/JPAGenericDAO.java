@@ -1,16 +1,55 @@
 package br.com.eaugusto.dao.generics;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
-import javax.persistence.EntityManagerFactory;
-import javax.persistence.Persistence;
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.annotations.NaturalId;
 
 import br.com.eaugusto.domain.IPersistable;
 import br.com.eaugusto.exceptions.DAOException;
 import br.com.eaugusto.exceptions.DAOParameterException;
 import br.com.eaugusto.exceptions.DatabaseConnectionException;
+import br.com.eaugusto.exceptions.EntityMappingException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+import br.com.eaugusto.persistence.UnitOfWork;
+import br.com.eaugusto.persistence.cache.EntityCache;
+import br.com.eaugusto.persistence.cache.EntityCacheRegistry;
+import br.com.eaugusto.persistence.cache.NaturalIdCache;
+import br.com.eaugusto.persistence.metrics.DAOMetrics;
+import br.com.eaugusto.persistence.metrics.OperationTimer;
 
 /**
  * Generic JPA DAO Implementation.
@@ -18,6 +57,20 @@ import br.com.eaugusto.exceptions.DatabaseConnectionException;
  * Provides a reusable implementation of {@link IJPAGenericDAO} with basic JPA
  * operations and connection management. Works with any entity type implementing
  * {@link IPersistable}.
+ * <p>
+ * The {@link javax.persistence.EntityManagerFactory} of each persistence unit is shared through
+ * {@link EntityManagerFactoryRegistry}; every operation only opens and closes a
+ * short-lived {@link EntityManager}, or joins the {@link UnitOfWork} bound to
+ * its thread. The EntityManager is handed from helper to helper and never
+ * stored in the DAO, so one instance can be shared by any number of threads. Entities annotated with
+ * <code>@Cacheable</code> are also kept in an {@link EntityCache}, which
+ * serves <code>findById</code> and is invalidated by <code>update</code> and
+ * <code>delete</code>. Their natural keys, the attribute annotated with
+ * <code>@NaturalId</code>, are resolved to IDs through a {@link NaturalIdCache}
+ * invalidated the same way.
+ * <p>
+ * Every operation records its latency, split into connection acquire, query,
+ * flush and commit, along with errors and rows written, in {@link DAOMetrics}.
  *
  * @param <T> the type of entity
  * @param <E> the type of entity ID
@@ -29,17 +82,30 @@ public class JPAGenericDAO<T extends IPersistable, E extends Serializable> imple
 
 	private static final String DEFAULTPERSISTENCEUNITNAME = "JPA_Multi_Database_Testing";
 
-	protected EntityManagerFactory entityManagerFactory;
+	private static final String JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+	private static final String BATCH_CHUNK_SIZE = "br.com.eaugusto.batch.chunk_size";
+
+	private static final String STREAM_FETCH_SIZE = "br.com.eaugusto.stream.fetch_size";
+
+	private static final String STREAM_CLEAR_INTERVAL = "br.com.eaugusto.stream.clear_interval";
 
-	protected EntityManager entityManager;
+	private static final String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
-	private Class<T> entityClass;
+	private static final String HINT_LOAD_GRAPH = "javax.persistence.loadgraph";
 
-	private String persistenceUnitName;
+	private static final String PROJECTION_ID_ALIAS = "keysetId";
+
+	private final Class<T> entityClass;
+
+	private final String persistenceUnitName;
+
+	private final Field naturalIdField;
 
 	public JPAGenericDAO(Class<T> entityClass, String persistenceUnitName) {
 		this.entityClass = entityClass;
 		this.persistenceUnitName = persistenceUnitName;
+		this.naturalIdField = findNaturalIdField(entityClass);
 	}
 
 	public JPAGenericDAO(Class<T> entityClass) {
@@ -52,16 +118,60 @@ public class JPAGenericDAO<T extends IPersistable, E extends Serializable> imple
 			throw new DAOParameterException("Cannot register a null entity.");
 		}
 
+		OperationTimer timer = startOperation("register");
+		EntityManager entityManager = null;
 		try {
-			openConnection();
-			entityManager.persist(entity);
-			entityManager.getTransaction().commit();
+			entityManager = openConnection();
+			persistEntity(entityManager, entity);
+			commitTransaction(entityManager);
+			timer.succeeded(1);
 			return entity;
 		} catch (Exception e) {
 			throw new DAOException("Error registering entity.", e);
 		} finally {
-			closeConnection();
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Collection<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null) {
+			throw new DAOParameterException("Cannot register a null collection.");
+		}
+
+		return registerAll(entities.stream());
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Stream<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null) {
+			throw new DAOParameterException("Cannot register a null stream.");
+		}
+
+		String unitName = getPersistenceUnitName();
+		int chunkSize = Math.max(1, EntityManagerFactoryRegistry.getIntProperty(unitName, BATCH_CHUNK_SIZE, 1000));
+		int flushInterval = Math.max(1, EntityManagerFactoryRegistry.getIntProperty(unitName, JDBC_BATCH_SIZE, 50));
+
+		BatchResult<T> result = new BatchResult<>();
+		try (OperationTimer timer = startOperation("registerAll")) {
+			List<T> chunk = new ArrayList<>(chunkSize);
+			Iterator<T> iterator = entities.iterator();
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == chunkSize) {
+					result.add(registerChunk(result.getChunks().size(), chunk, flushInterval));
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				result.add(registerChunk(result.getChunks().size(), chunk, flushInterval));
+			}
+			if (result.isSuccessful()) {
+				timer.succeeded(result.getRegisteredCount());
+			}
 		}
+		return result;
 	}
 
 	@Override
@@ -70,15 +180,21 @@ public class JPAGenericDAO<T extends IPersistable, E extends Serializable> imple
 			throw new DAOParameterException("Cannot delete a null entity.");
 		}
 
+		OperationTimer timer = startOperation("delete");
+		EntityManager entityManager = null;
 		try {
-			openConnection();
+			entityManager = openConnection();
 			entity = entityManager.merge(entity);
 			entityManager.remove(entity);
-			entityManager.getTransaction().commit();
+			commitTransaction(entityManager);
+			timer.succeeded(1);
 		} catch (Exception e) {
 			throw new DAOException("Error deleting entity.", e);
 		} finally {
-			closeConnection();
+			closeConnection(entityManager);
+			timer.close();
+			invalidateCached(entity.getId());
+			invalidateNaturalId(entity);
 		}
 	}
 
@@ -88,15 +204,141 @@ public class JPAGenericDAO<T extends IPersistable, E extends Serializable> imple
 			throw new DAOParameterException("Cannot update a null entity.");
 		}
 
+		OperationTimer timer = startOperation("update");
+		EntityManager entityManager = null;
 		try {
-			openConnection();
+			entityManager = openConnection();
 			T updated = entityManager.merge(entity);
-			entityManager.getTransaction().commit();
+			commitTransaction(entityManager);
+			timer.succeeded(1);
 			return updated;
 		} catch (Exception e) {
 			throw new DAOException("Error updating entity.", e);
 		} finally {
-			closeConnection();
+			closeConnection(entityManager);
+			timer.close();
+			invalidateCached(entity.getId());
+			invalidateNaturalId(entity);
+		}
+	}
+
+	@Override
+	public int deleteAll() throws DAOException, DatabaseConnectionException {
+		OperationTimer timer = startOperation("deleteAll");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openConnection();
+			CriteriaDelete<T> delete = entityManager.getCriteriaBuilder().createCriteriaDelete(this.entityClass);
+			delete.from(this.entityClass);
+			int deleted = executeBulk(entityManager, entityManager.createQuery(delete));
+			commitTransaction(entityManager);
+			timer.succeeded(deleted);
+			return deleted;
+		} catch (Exception e) {
+			throw new DAOException("Error deleting all entities.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+			invalidateAllCached();
+		}
+	}
+
+	@Override
+	public int deleteByIds(Collection<E> ids) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot delete a null collection or null IDs.");
+		}
+
+		int chunkSize = Math.max(1, EntityManagerFactoryRegistry.getIntProperty(getPersistenceUnitName(), BATCH_CHUNK_SIZE, 1000));
+		List<E> pending = new ArrayList<>(new LinkedHashSet<>(ids));
+		int deleted = 0;
+		try (OperationTimer timer = startOperation("deleteByIds")) {
+			for (int start = 0; start < pending.size(); start += chunkSize) {
+				List<E> chunk = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+				EntityManager entityManager = null;
+				try {
+					entityManager = openConnection();
+					CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+					CriteriaDelete<T> delete = builder.createCriteriaDelete(this.entityClass);
+					Root<T> root = delete.from(this.entityClass);
+					delete.where(root.get(getIdAttribute(entityManager).getName()).in(chunk));
+					deleted += executeBulk(entityManager, entityManager.createQuery(delete));
+					commitTransaction(entityManager);
+				} catch (Exception e) {
+					throw new DAOException("Error deleting entities by ID after " + deleted + " deletions.", e);
+				} finally {
+					closeConnection(entityManager);
+					chunk.forEach(this::invalidateCached);
+					invalidateAllNaturalIds();
+				}
+			}
+			timer.succeeded(deleted);
+		}
+		return deleted;
+	}
+
+	@Override
+	public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		validateCriteria(criteria);
+
+		OperationTimer timer = startOperation("deleteWhere");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openConnection();
+			CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+			CriteriaDelete<T> delete = builder.createCriteriaDelete(this.entityClass);
+			Root<T> root = delete.from(this.entityClass);
+			delete.where(toPredicates(builder, root, criteria));
+			int deleted = executeBulk(entityManager, entityManager.createQuery(delete));
+			commitTransaction(entityManager);
+			timer.succeeded(deleted);
+			return deleted;
+		} catch (DAOParameterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error deleting entities by criteria.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+			invalidateAllCached();
+		}
+	}
+
+	@Override
+	public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		validateCriteria(criteria);
+		if (assignments == null || assignments.isEmpty()) {
+			throw new DAOParameterException("At least one assignment is required.");
+		}
+
+		OperationTimer timer = startOperation("updateWhere");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openConnection();
+			CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+			CriteriaUpdate<T> update = builder.createCriteriaUpdate(this.entityClass);
+			Root<T> root = update.from(this.entityClass);
+			String idName = getIdAttribute(entityManager).getName();
+			for (Map.Entry<String, ?> assignment : assignments.entrySet()) {
+				if (idName.equals(assignment.getKey())) {
+					throw new DAOParameterException("The ID attribute cannot be updated.");
+				}
+				update.set(getAttributePath(root, assignment.getKey()), assignment.getValue());
+			}
+			update.where(toPredicates(builder, root, criteria));
+			int updated = executeBulk(entityManager, entityManager.createQuery(update));
+			commitTransaction(entityManager);
+			timer.succeeded(updated);
+			return updated;
+		} catch (DAOParameterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error updating entities by criteria.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+			invalidateAllCached();
 		}
 	}
 
@@ -106,65 +348,989 @@ public class JPAGenericDAO<T extends IPersistable, E extends Serializable> imple
 			throw new DAOParameterException("ID cannot be null.");
 		}
 
+		OperationTimer timer = startOperation("findById");
+		EntityCache<Object, T> cache = isInUnitOfWork() ? null : getCache();
+		if (cache != null) {
+			T cached = cache.get(id);
+			if (cached != null) {
+				timer.succeeded();
+				timer.close();
+				return cached;
+			}
+		}
+
+		EntityManager entityManager = null;
 		try {
-			openConnection();
+			long stamp = cache != null ? cache.stamp() : 0;
+			entityManager = openReadOnlyConnection();
 			T entity = entityManager.find(this.entityClass, id);
-			entityManager.getTransaction().commit();
+			if (cache != null) {
+				cache.put(id, entity, stamp);
+			}
+			timer.succeeded();
+			return entity;
+		} catch (Exception e) {
+			throw new DAOException("Error finding entity by ID.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public T findById(E id, String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (fetchPlan == null) {
+			return findById(id);
+		}
+		if (id == null) {
+			throw new DAOParameterException("ID cannot be null.");
+		}
+
+		OperationTimer timer = startOperation("findById");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openReadOnlyConnection();
+			T entity = entityManager.find(this.entityClass, id, Map.of(HINT_LOAD_GRAPH, getFetchGraph(entityManager, fetchPlan)));
+			timer.succeeded();
 			return entity;
+		} catch (DAOParameterException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new DAOException("Error finding entity by ID.", e);
 		} finally {
-			closeConnection();
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public T findByNaturalId(Object naturalId) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (naturalId == null) {
+			throw new DAOParameterException("Natural ID cannot be null.");
+		}
+
+		List<T> found = findByNaturalIds(List.of(naturalId), "findByNaturalId");
+		return found.isEmpty() ? null : found.get(0);
+	}
+
+	@Override
+	public List<T> findByNaturalIds(Collection<?> naturalIds)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (naturalIds == null || naturalIds.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot search a null collection or null natural IDs.");
 		}
+
+		return findByNaturalIds(naturalIds, "findByNaturalIds");
 	}
 
 	@Override
 	public Collection<T> findAll() throws DAOException, DatabaseConnectionException {
+		return findAll(null);
+	}
+
+	@Override
+	public Collection<T> findAll(String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		OperationTimer timer = startOperation("findAll");
+		EntityManager entityManager = null;
 		try {
-			openConnection();
-			return entityManager.createQuery(getSelectSql(), this.entityClass).getResultList();
+			entityManager = openReadOnlyConnection();
+			TypedQuery<T> query = entityManager.createQuery(getSelectSql(), this.entityClass);
+			applyFetchPlan(entityManager, query, fetchPlan);
+			List<T> entities = query.getResultList();
+			timer.succeeded();
+			return entities;
+		} catch (DAOParameterException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new DAOException("Error fetching all entities.", e);
 		} finally {
-			closeConnection();
+			closeConnection(entityManager);
+			timer.close();
 		}
 	}
 
+	@Override
+	public Page<T> findPage(E afterId, int limit) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return findPage(afterId, limit, null);
+	}
+
+	@Override
+	public Page<T> findPage(E afterId, int limit, String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		validatePageLimit(limit);
+
+		OperationTimer timer = startOperation("findPage");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openReadOnlyConnection();
+			String jpql = getSelectSql() + (afterId != null ? " WHERE obj.id > :afterId" : "") + " ORDER BY obj.id";
+			TypedQuery<T> query = entityManager.createQuery(jpql, this.entityClass).setMaxResults(limit + 1);
+			if (afterId != null) {
+				query.setParameter("afterId", afterId);
+			}
+			applyFetchPlan(entityManager, query, fetchPlan);
+			Page<T> page = toPage(query.getResultList(), limit, null);
+			timer.succeeded();
+			return page;
+		} catch (DAOParameterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error fetching page of entities.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public Page<T> findPage(String sortAttribute, String cursor, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (sortAttribute == null) {
+			throw new DAOParameterException("Sort attribute cannot be null.");
+		}
+		validatePageLimit(limit);
+
+		OperationTimer timer = startOperation("findPage");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openReadOnlyConnection();
+			SingularAttribute<? super T, ?> attribute = getSortAttribute(entityManager, sortAttribute);
+			KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor, attribute.getJavaType()) : null;
+			String sortKey = "obj." + attribute.getName();
+
+			StringBuilder jpql = new StringBuilder(getSelectSql());
+			if (position != null) {
+				jpql.append(" WHERE ").append(sortKey).append(" > :sortValue OR (")
+						.append(sortKey).append(" = :sortValue AND obj.id > :lastId)");
+			}
+			jpql.append(" ORDER BY ").append(sortKey).append(", obj.id");
+
+			TypedQuery<T> query = entityManager.createQuery(jpql.toString(), this.entityClass).setMaxResults(limit + 1);
+			if (position != null) {
+				query.setParameter("sortValue", position.getSortValue());
+				query.setParameter("lastId", position.getId());
+			}
+			Page<T> page = toPage(query.getResultList(), limit, attribute);
+			timer.succeeded();
+			return page;
+		} catch (DAOParameterException | DAOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error fetching page of entities.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public Stream<T> streamAll() throws DAOException, DatabaseConnectionException {
+		int fetchSize = EntityManagerFactoryRegistry.getIntProperty(getPersistenceUnitName(), STREAM_FETCH_SIZE, 500);
+		int clearInterval = Math.max(1, getStreamClearInterval());
+
+		EntityManager streamEntityManager = openStreamConnection();
+		try {
+			TypedQuery<T> query = streamEntityManager.createQuery(getSelectSql(), this.entityClass);
+			query.setHint(HINT_FETCH_SIZE, fetchSize);
+			Iterator<T> rows = query.getResultStream().iterator();
+			Iterator<T> clearing = new Iterator<T>() {
+
+				private long streamed;
+
+				@Override
+				public boolean hasNext() {
+					return rows.hasNext();
+				}
+
+				@Override
+				public T next() {
+					// Clear before pulling the next row, so only entities the consumer
+					// has already handled are detached.
+					if (streamed > 0 && streamed % clearInterval == 0) {
+						streamEntityManager.clear();
+					}
+					T entity = rows.next();
+					streamed++;
+					return entity;
+				}
+			};
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(clearing, Spliterator.ORDERED), false)
+					.onClose(() -> closeStreamConnection(streamEntityManager));
+		} catch (Exception e) {
+			closeStreamConnection(streamEntityManager);
+			throw new DAOException("Error streaming entities.", e);
+		}
+	}
+
+	@Override
+	public void forEach(Consumer<T> action) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (action == null) {
+			throw new DAOParameterException("Action cannot be null.");
+		}
+
+		try (Stream<T> entities = streamAll()) {
+			entities.forEach(action);
+		} catch (DAOException | DatabaseConnectionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error iterating over entities.", e);
+		}
+	}
+
+	@Override
+	public <P> List<P> findAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		Projection<P> mapper = Projection.of(projection);
+
+		OperationTimer timer = startOperation("findAllAs");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openReadOnlyConnection();
+			List<Tuple> rows = createProjectionQuery(entityManager, mapper, false, false).getResultList();
+			List<P> results = new ArrayList<>(rows.size());
+			for (Tuple row : rows) {
+				results.add(mapper.map(row));
+			}
+			timer.succeeded();
+			return results;
+		} catch (DAOParameterException | DAOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error fetching projections.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public <P> Page<P> findPageAs(Class<P> projection, E afterId, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		Projection<P> mapper = Projection.of(projection);
+		validatePageLimit(limit);
+
+		OperationTimer timer = startOperation("findPageAs");
+		EntityManager entityManager = null;
+		try {
+			entityManager = openReadOnlyConnection();
+			TypedQuery<Tuple> query = createProjectionQuery(entityManager, mapper, afterId != null, true)
+					.setMaxResults(limit + 1);
+			if (afterId != null) {
+				query.setParameter("afterId", afterId);
+			}
+			List<Tuple> rows = query.getResultList();
+
+			boolean hasNext = rows.size() > limit;
+			List<P> items = new ArrayList<>(Math.min(rows.size(), limit));
+			Long lastId = null;
+			for (Tuple row : rows.subList(0, Math.min(rows.size(), limit))) {
+				items.add(mapper.map(row));
+				lastId = ((Number) row.get(PROJECTION_ID_ALIAS)).longValue();
+			}
+			timer.succeeded();
+			return new Page<>(items, hasNext ? new KeysetCursor(null, lastId).encode() : null, lastId);
+		} catch (DAOParameterException | DAOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error fetching page of projections.", e);
+		} finally {
+			closeConnection(entityManager);
+			timer.close();
+		}
+	}
+
+	@Override
+	public <P> Stream<P> streamAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		Projection<P> mapper = Projection.of(projection);
+		int fetchSize = EntityManagerFactoryRegistry.getIntProperty(getPersistenceUnitName(), STREAM_FETCH_SIZE, 500);
+
+		EntityManager streamEntityManager = openStreamConnection();
+		try {
+			TypedQuery<Tuple> query = createProjectionQuery(streamEntityManager, mapper, false, false);
+			query.setHint(HINT_FETCH_SIZE, fetchSize);
+			return query.getResultStream()
+					.map(mapper::map)
+					.onClose(() -> closeStreamConnection(streamEntityManager));
+		} catch (DAOParameterException e) {
+			closeStreamConnection(streamEntityManager);
+			throw e;
+		} catch (Exception e) {
+			closeStreamConnection(streamEntityManager);
+			throw new DAOException("Error streaming projections.", e);
+		}
+	}
+
+	/**
+	 * Persists a new entity in the current transaction. Used by both single and
+	 * batch registration; subclasses can override it to attach related entities
+	 * before the entity itself is persisted.
+	 *
+	 * @param entityManager the EntityManager of the current operation
+	 * @param entity        the entity to be persisted
+	 */
+	protected void persistEntity(EntityManager entityManager, T entity) {
+		entityManager.persist(entity);
+	}
+
 	/**
-	 * Opens the EntityManager and begins a transaction.
+	 * Looks up entities by natural key. Keys already resolved to an ID are loaded
+	 * through <code>findById</code>, and so from the entity cache; the others
+	 * are queried in chunks and their IDs cached. A cached ID whose entity no
+	 * longer has the key is dropped and the key queried again.
 	 *
+	 * @param naturalIds the natural keys, without nulls
+	 * @param operation  the operation name for the metrics
+	 * @return the entities found, in the order of their keys
+	 */
+	@SuppressWarnings("unchecked")
+	private List<T> findByNaturalIds(Collection<?> naturalIds, String operation) {
+		if (naturalIdField == null) {
+			throw new DAOParameterException(this.entityClass.getSimpleName() + " has no @NaturalId attribute.");
+		}
+
+		OperationTimer timer = startOperation(operation);
+		try {
+			List<Object> keys = new ArrayList<>(new LinkedHashSet<>(naturalIds));
+			Map<Object, T> found = new HashMap<>();
+			NaturalIdCache<Object, E> cache = isInUnitOfWork() ? null : getNaturalIdCache();
+			List<Object> missing = new ArrayList<>();
+			for (Object key : keys) {
+				E id = cache != null ? cache.get(key) : null;
+				T entity = id != null ? findById(id) : null;
+				if (entity != null && key.equals(naturalIdOf(entity))) {
+					found.put(key, entity);
+				} else {
+					if (id != null) {
+						cache.invalidate(key);
+					}
+					missing.add(key);
+				}
+			}
+
+			if (!missing.isEmpty()) {
+				long stamp = cache != null ? cache.stamp() : 0;
+				int chunkSize = Math.max(1,
+						EntityManagerFactoryRegistry.getIntProperty(getPersistenceUnitName(), BATCH_CHUNK_SIZE, 1000));
+				for (int start = 0; start < missing.size(); start += chunkSize) {
+					List<Object> chunk = missing.subList(start, Math.min(start + chunkSize, missing.size()));
+					EntityManager entityManager = null;
+					try {
+						entityManager = openReadOnlyConnection();
+						CriteriaQuery<T> query = entityManager.getCriteriaBuilder().createQuery(this.entityClass);
+						Root<T> root = query.from(this.entityClass);
+						query.select(root).where(root.get(naturalIdField.getName()).in(chunk));
+						for (T entity : entityManager.createQuery(query).getResultList()) {
+							Object key = naturalIdOf(entity);
+							found.put(key, entity);
+							if (cache != null) {
+								cache.put(key, (E) entity.getId(), stamp);
+							}
+						}
+					} finally {
+						closeConnection(entityManager);
+					}
+				}
+			}
+
+			List<T> result = new ArrayList<>(found.size());
+			keys.stream().map(found::get).filter(Objects::nonNull).forEach(result::add);
+			timer.succeeded();
+			return result;
+		} catch (DAOParameterException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DAOException("Error finding entities by natural ID.", e);
+		} finally {
+			timer.close();
+		}
+	}
+
+	/**
+	 * @return the natural key of the entity, or null if its class has none
+	 */
+	private Object naturalIdOf(T entity) {
+		if (naturalIdField == null) {
+			return null;
+		}
+		try {
+			return naturalIdField.get(entity);
+		} catch (IllegalAccessException e) {
+			throw new EntityMappingException("Cannot read the natural ID of " + this.entityClass.getName() + ".", e);
+		}
+	}
+
+	/**
+	 * @return the field annotated with <code>@NaturalId</code> in the entity
+	 *         class or its superclasses, made accessible, or null if none is
+	 */
+	private static Field findNaturalIdField(Class<?> entityClass) {
+		for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				if (field.isAnnotationPresent(NaturalId.class)) {
+					field.setAccessible(true);
+					return field;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Persists one chunk of a batch registration in a single transaction,
+	 * flushing and clearing the persistence context every {@code flushInterval}
+	 * entities so the JDBC driver receives full statement batches. Inside a
+	 * {@link UnitOfWork}, the context is only flushed and the chunk commits with
+	 * the unit of work.
+	 *
+	 * @param index         the position of the chunk in the batch
+	 * @param chunk         the entities of the chunk
+	 * @param flushInterval the number of entities between flushes
+	 * @return the chunk outcome
+	 */
+	private ChunkResult<T> registerChunk(int index, List<T> chunk, int flushInterval) {
+		EntityManager entityManager = null;
+		try {
+			entityManager = openConnection();
+			int persisted = 0;
+			for (T entity : chunk) {
+				persistEntity(entityManager, entity);
+				if (++persisted % flushInterval == 0) {
+					long flushStartedAt = System.nanoTime();
+					entityManager.flush();
+					OperationTimer.addFlush(flushStartedAt);
+					if (!isJoined(entityManager)) {
+						entityManager.clear();
+					}
+				}
+			}
+			commitTransaction(entityManager);
+			return ChunkResult.succeeded(index, chunk.size());
+		} catch (Exception e) {
+			chunk.stream().filter(entity -> entity != null).forEach(entity -> entity.setId(null));
+			return ChunkResult.failed(index, chunk, e);
+		} finally {
+			closeConnection(entityManager);
+		}
+	}
+
+	/**
+	 * Opens an EntityManager from the shared factory of the persistence unit and
+	 * begins a transaction. If a {@link UnitOfWork} of the unit is bound to the
+	 * current thread, joins its EntityManager and transaction instead.
+	 * <p>
+	 * The EntityManager belongs to the calling operation alone and must be handed
+	 * to {@link #closeConnection(EntityManager)} once it ends; the DAO itself
+	 * keeps no reference to it.
+	 *
+	 * @return the EntityManager of the operation
 	 * @throws DatabaseConnectionException if the EntityManager or Factory fails to
 	 *                                     initialize
 	 */
-	protected void openConnection() throws DatabaseConnectionException {
+	protected EntityManager openConnection() throws DatabaseConnectionException {
+		UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+		if (work != null) {
+			return work.getEntityManager();
+		}
+
+		long startedAt = System.nanoTime();
+		EntityManager entityManager = null;
 		try {
-			entityManagerFactory = Persistence.createEntityManagerFactory(getPersistenceUnitName());
-			entityManager = entityManagerFactory.createEntityManager();
+			entityManager = EntityManagerFactoryRegistry.createEntityManager(getPersistenceUnitName());
 			entityManager.getTransaction().begin();
+			return entityManager;
 		} catch (Exception e) {
+			if (entityManager != null) {
+				entityManager.close();
+			}
 			throw new DatabaseConnectionException("Failed to open JPA connection.", e);
+		} finally {
+			OperationTimer.addAcquire(startedAt);
+		}
+	}
+
+	/**
+	 * Opens a connection for operations that only read. Entities are loaded
+	 * read-only, so Hibernate keeps no snapshots of them and never dirty-checks
+	 * them; the session is never flushed and the JDBC connection is flagged
+	 * read-only, letting the database skip write bookkeeping. The transaction is
+	 * rolled back by {@link #closeConnection(EntityManager)}.
+	 * <p>
+	 * Inside a {@link UnitOfWork}, joins it unchanged, since the shared session
+	 * may also hold changes to be written.
+	 *
+	 * @return the EntityManager of the operation
+	 * @throws DatabaseConnectionException if the EntityManager or Factory fails to
+	 *                                     initialize
+	 */
+	protected EntityManager openReadOnlyConnection() throws DatabaseConnectionException {
+		EntityManager entityManager = openConnection();
+		if (isJoined(entityManager)) {
+			return entityManager;
+		}
+
+		try {
+			markReadOnly(entityManager);
+			return entityManager;
+		} catch (Exception e) {
+			closeConnection(entityManager);
+			throw new DatabaseConnectionException("Failed to open read-only JPA connection.", e);
 		}
 	}
 
 	/**
-	 * Closes the EntityManager and its factory safely.
+	 * Closes the EntityManager safely, rolling back any transaction left open by a
+	 * failed operation. The shared factory stays open for the next operation. A
+	 * joined {@link UnitOfWork} is left open for its owner to complete.
 	 *
+	 * @param entityManager the EntityManager of the operation, or null if opening
+	 *                      it failed
 	 * @throws DatabaseConnectionException if an error occurs while closing
 	 *                                     resources
 	 */
-	protected void closeConnection() throws DatabaseConnectionException {
+	protected void closeConnection(EntityManager entityManager) throws DatabaseConnectionException {
+		if (isJoined(entityManager)) {
+			return;
+		}
+
 		try {
 			if (entityManager != null && entityManager.isOpen()) {
+				if (entityManager.getTransaction().isActive()) {
+					entityManager.getTransaction().rollback();
+				}
 				entityManager.close();
 			}
-			if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
-				entityManagerFactory.close();
-			}
 		} catch (Exception e) {
 			throw new DatabaseConnectionException("Failed to close JPA connection.", e);
 		}
 	}
 
+	/**
+	 * Returns the cache of this DAO's entity on its persistence unit.
+	 *
+	 * @return the cache, or null if the entity is not <code>@Cacheable</code>
+	 */
+	protected EntityCache<Object, T> getCache() {
+		return EntityCacheRegistry.getCache(getPersistenceUnitName(), this.entityClass);
+	}
+
+	/**
+	 * Drops a changed entity from the cache, if the entity is cached.
+	 *
+	 * @param id the ID of the changed entity
+	 */
+	protected void invalidateCached(Object id) {
+		invalidateCached(this.entityClass, id);
+	}
+
+	/**
+	 * Drops a changed entity of another class, such as a merged relationship,
+	 * from its cache on this DAO's persistence unit. Inside a {@link UnitOfWork},
+	 * the entity is dropped once the unit of work completes.
+	 *
+	 * @param type the class of the changed entity
+	 * @param id   the ID of the changed entity
+	 */
+	protected void invalidateCached(Class<?> type, Object id) {
+		if (id != null) {
+			EntityCache<Object, ?> cache = EntityCacheRegistry.getCache(getPersistenceUnitName(), type);
+			UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+			if (cache != null && work != null) {
+				work.afterCompletion(() -> cache.invalidate(id));
+			} else if (cache != null) {
+				cache.invalidate(id);
+			}
+		}
+	}
+
+	/**
+	 * Flushes and commits the transaction of the current operation, timing each
+	 * step for the operation's metrics. Inside a {@link UnitOfWork}, does
+	 * nothing: the unit of work commits all operations at once.
+	 *
+	 * @param entityManager the EntityManager of the operation
+	 */
+	protected void commitTransaction(EntityManager entityManager) {
+		if (!isJoined(entityManager)) {
+			long startedAt = System.nanoTime();
+			entityManager.flush();
+			OperationTimer.addFlush(startedAt);
+
+			startedAt = System.nanoTime();
+			entityManager.getTransaction().commit();
+			OperationTimer.addCommit(startedAt);
+		}
+	}
+
+	/**
+	 * Starts timing an operation of this DAO, tagged with its persistence unit
+	 * and entity class. Subclasses time their own operations the same way:
+	 *
+	 * <pre>
+	 * OperationTimer timer = startOperation("findWithCollections");
+	 * EntityManager entityManager = null;
+	 * try {
+	 *     entityManager = openReadOnlyConnection();
+	 *     ...
+	 *     timer.succeeded();
+	 * } finally {
+	 *     closeConnection(entityManager);
+	 *     timer.close();
+	 * }
+	 * </pre>
+	 *
+	 * @param operation the operation name
+	 * @return the running timer
+	 * @see DAOMetrics
+	 */
+	protected OperationTimer startOperation(String operation) {
+		return DAOMetrics.start(getPersistenceUnitName(), this.entityClass, operation);
+	}
+
+	/**
+	 * Number of entities {@link #streamAll()} hands out between clears of its
+	 * persistence context, read from the unit's
+	 * <code>br.com.eaugusto.stream.clear_interval</code> property.
+	 *
+	 * @return the clear interval of streams
+	 * @throws DatabaseConnectionException if the unit cannot be loaded
+	 */
+	protected int getStreamClearInterval() throws DatabaseConnectionException {
+		return EntityManagerFactoryRegistry.getIntProperty(getPersistenceUnitName(), STREAM_CLEAR_INTERVAL, 500);
+	}
+
+	/**
+	 * @return true if a {@link UnitOfWork} of this DAO's unit is bound to the
+	 *         current thread
+	 */
+	protected boolean isInUnitOfWork() {
+		return UnitOfWork.current(getPersistenceUnitName()) != null;
+	}
+
+	/**
+	 * Switches a session with an active transaction to read-only mode. Must run
+	 * before the transaction's first statement, while the connection still
+	 * accepts the read-only flag.
+	 */
+	private static void markReadOnly(EntityManager readEntityManager) {
+		Session session = readEntityManager.unwrap(Session.class);
+		session.setDefaultReadOnly(true);
+		session.setHibernateFlushMode(FlushMode.MANUAL);
+		session.doWork(connection -> connection.setReadOnly(true));
+	}
+
+	/**
+	 * Drops every cached entity of this DAO's class, for bulk changes whose
+	 * affected IDs are unknown. Inside a {@link UnitOfWork}, the entities are
+	 * dropped once the unit of work completes.
+	 */
+	protected void invalidateAllCached() {
+		EntityCache<Object, T> cache = getCache();
+		UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+		if (cache != null && work != null) {
+			work.afterCompletion(cache::invalidateAll);
+		} else if (cache != null) {
+			cache.invalidateAll();
+		}
+		invalidateAllNaturalIds();
+	}
+
+	/**
+	 * Returns the natural key to ID cache of this DAO's entity on its
+	 * persistence unit.
+	 *
+	 * @return the cache, or null if the entity has no natural key or is not
+	 *         <code>@Cacheable</code>
+	 */
+	protected NaturalIdCache<Object, E> getNaturalIdCache() {
+		return naturalIdField == null ? null
+				: EntityCacheRegistry.getNaturalIdCache(getPersistenceUnitName(), this.entityClass);
+	}
+
+	/**
+	 * Drops the natural key of a changed entity from the natural key cache.
+	 * Inside a {@link UnitOfWork}, the key is dropped once the unit of work
+	 * completes. A key the entity no longer has may stay cached, but lookups
+	 * check the key of the entity they load and drop such stale keys.
+	 *
+	 * @param entity the changed entity
+	 */
+	protected void invalidateNaturalId(T entity) {
+		Object naturalId = entity == null ? null : naturalIdOf(entity);
+		NaturalIdCache<Object, E> cache = naturalId == null ? null : getNaturalIdCache();
+		UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+		if (cache != null && work != null) {
+			work.afterCompletion(() -> cache.invalidate(naturalId));
+		} else if (cache != null) {
+			cache.invalidate(naturalId);
+		}
+	}
+
+	/**
+	 * Drops every natural key of this DAO's class, for bulk changes.
+	 */
+	private void invalidateAllNaturalIds() {
+		NaturalIdCache<Object, E> cache = getNaturalIdCache();
+		UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+		if (cache != null && work != null) {
+			work.afterCompletion(cache::invalidateAll);
+		} else if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	/**
+	 * Runs a bulk statement. Bulk statements bypass the persistence context, so
+	 * inside a {@link UnitOfWork} pending changes are flushed first and the
+	 * context is cleared afterwards, detaching entities that may now be stale.
+	 *
+	 * @param entityManager the EntityManager of the operation
+	 * @param query         the bulk delete or update
+	 * @return the number of affected rows
+	 */
+	private int executeBulk(EntityManager entityManager, Query query) {
+		boolean joined = isJoined(entityManager);
+		if (joined) {
+			long startedAt = System.nanoTime();
+			entityManager.flush();
+			OperationTimer.addFlush(startedAt);
+		}
+		int affected = query.executeUpdate();
+		if (joined) {
+			entityManager.clear();
+		}
+		return affected;
+	}
+
+	private void validateCriteria(Map<String, ?> criteria) throws DAOParameterException {
+		if (criteria == null || criteria.isEmpty()) {
+			throw new DAOParameterException("At least one criterion is required; use deleteAll to affect every row.");
+		}
+	}
+
+	/**
+	 * Builds one equality predicate per criterion, or an IS NULL predicate for
+	 * null values.
+	 */
+	private Predicate[] toPredicates(CriteriaBuilder builder, Root<T> root, Map<String, ?> criteria) {
+		List<Predicate> predicates = new ArrayList<>(criteria.size());
+		for (Map.Entry<String, ?> criterion : criteria.entrySet()) {
+			Path<Object> path = getAttributePath(root, criterion.getKey());
+			predicates.add(criterion.getValue() == null ? builder.isNull(path) : builder.equal(path, criterion.getValue()));
+		}
+		return predicates.toArray(new Predicate[0]);
+	}
+
+	private Path<Object> getAttributePath(Root<T> root, String name) throws DAOParameterException {
+		if (name == null) {
+			throw new DAOParameterException("Attribute name cannot be null.");
+		}
+		try {
+			return root.get(name);
+		} catch (IllegalArgumentException e) {
+			throw new DAOParameterException("Unknown attribute: " + name, e);
+		}
+	}
+
+	private SingularAttribute<? super T, ?> getIdAttribute(EntityManager entityManager) {
+		EntityType<T> type = entityManager.getMetamodel().entity(this.entityClass);
+		return type.getId(type.getIdType().getJavaType());
+	}
+
+	private boolean isJoined(EntityManager entityManager) {
+		UnitOfWork work = UnitOfWork.current(getPersistenceUnitName());
+		return work != null && work.getEntityManager() == entityManager;
+	}
+
+	/**
+	 * Resolves a fetch plan to the entity graph of the same name.
+	 *
+	 * @param entityManager the EntityManager of the operation
+	 * @param fetchPlan     the name of a <code>@NamedEntityGraph</code>
+	 * @return the entity graph
+	 * @throws DAOParameterException if no such graph is declared
+	 */
+	protected EntityGraph<?> getFetchGraph(EntityManager entityManager, String fetchPlan) throws DAOParameterException {
+		try {
+			return entityManager.getEntityGraph(fetchPlan);
+		} catch (IllegalArgumentException e) {
+			throw new DAOParameterException("Unknown fetch plan: " + fetchPlan, e);
+		}
+	}
+
+	/**
+	 * Loads the attributes of the fetch plan with the query's results; other
+	 * attributes follow their mapping, which is lazy for collections.
+	 *
+	 * @param entityManager the EntityManager the query was created on
+	 * @param query         the query
+	 * @param fetchPlan     the name of a <code>@NamedEntityGraph</code>, or null
+	 *                      to use the mapping only
+	 */
+	protected void applyFetchPlan(EntityManager entityManager, TypedQuery<T> query, String fetchPlan)
+			throws DAOParameterException {
+		if (fetchPlan != null) {
+			query.setHint(HINT_LOAD_GRAPH, getFetchGraph(entityManager, fetchPlan));
+		}
+	}
+
+	private void validatePageLimit(int limit) throws DAOParameterException {
+		if (limit < 1) {
+			throw new DAOParameterException("Page limit must be positive.");
+		}
+	}
+
+	/**
+	 * Resolves a sort attribute through the metamodel, which also keeps arbitrary
+	 * text out of the generated JPQL. Only mandatory basic attributes are
+	 * accepted: rows with a null sort value would fall out of the keyset
+	 * comparison, and associations have no order of their own.
+	 *
+	 * @param entityManager the EntityManager of the operation
+	 * @param name          the attribute name
+	 * @return the matching singular attribute
+	 * @throws DAOParameterException if the entity has no such attribute, or it
+	 *                               is optional or not a basic attribute
+	 */
+	private SingularAttribute<? super T, ?> getSortAttribute(EntityManager entityManager, String name)
+			throws DAOParameterException {
+		SingularAttribute<? super T, ?> attribute;
+		try {
+			attribute = entityManager.getMetamodel().entity(this.entityClass).getSingularAttribute(name);
+		} catch (IllegalArgumentException e) {
+			throw new DAOParameterException("Unknown sort attribute: " + name, e);
+		}
+		if (attribute.getPersistentAttributeType() != PersistentAttributeType.BASIC) {
+			throw new DAOParameterException("Sort attribute " + name + " must be a basic attribute.");
+		}
+		if (attribute.isOptional()) {
+			throw new DAOParameterException("Sort attribute " + name + " must not be nullable.");
+		}
+		return attribute;
+	}
+
+	/**
+	 * Builds a page from a result fetched with one extra row, which only tells
+	 * whether a next page exists.
+	 *
+	 * @param results       the query result, up to {@code limit + 1} rows
+	 * @param limit         the page size
+	 * @param sortAttribute the sort attribute, or null when sorting by ID
+	 * @return the page
+	 */
+	private Page<T> toPage(List<T> results, int limit, SingularAttribute<? super T, ?> sortAttribute) {
+		boolean hasNext = results.size() > limit;
+		List<T> items = hasNext ? new ArrayList<>(results.subList(0, limit)) : results;
+		Long lastId = items.isEmpty() ? null : items.get(items.size() - 1).getId();
+
+		String nextCursor = null;
+		if (hasNext) {
+			T last = items.get(limit - 1);
+			Object sortValue = sortAttribute != null ? readAttribute(last, sortAttribute) : null;
+			nextCursor = new KeysetCursor(sortValue, lastId).encode();
+		}
+		return new Page<>(items, nextCursor, lastId);
+	}
+
+	private Object readAttribute(T entity, SingularAttribute<? super T, ?> attribute) {
+		Member member = attribute.getJavaMember();
+		try {
+			if (member instanceof Field) {
+				Field field = (Field) member;
+				field.setAccessible(true);
+				return field.get(entity);
+			}
+			Method getter = (Method) member;
+			getter.setAccessible(true);
+			return getter.invoke(entity);
+		} catch (ReflectiveOperationException e) {
+			throw new DAOException("Cannot read attribute " + attribute.getName() + ".", e);
+		}
+	}
+
+	/**
+	 * Builds a tuple query that selects only the projection's attributes, each
+	 * aliased by its name, ordered by ID. Attribute names are resolved through
+	 * the metamodel before they reach the JPQL.
+	 *
+	 * @param queryEntityManager the EntityManager to create the query on
+	 * @param mapper             the projection
+	 * @param afterId            whether to add an <code>:afterId</code> bound
+	 * @param selectId           whether to also select the ID, for keyset cursors
+	 * @return the query
+	 * @throws DAOParameterException if the entity lacks an attribute or its type
+	 *                               does not fit the projection
+	 */
+	private TypedQuery<Tuple> createProjectionQuery(EntityManager queryEntityManager, Projection<?> mapper,
+			boolean afterId, boolean selectId) throws DAOParameterException {
+		EntityType<T> type = queryEntityManager.getMetamodel().entity(this.entityClass);
+		List<String> attributes = mapper.getAttributes();
+
+		StringBuilder jpql = new StringBuilder("SELECT ");
+		for (int index = 0; index < attributes.size(); index++) {
+			SingularAttribute<? super T, ?> attribute;
+			try {
+				attribute = type.getSingularAttribute(attributes.get(index));
+			} catch (IllegalArgumentException e) {
+				throw new DAOParameterException("Unknown attribute: " + attributes.get(index), e);
+			}
+			if (!Projection.accepts(mapper.getAttributeTypes().get(index), attribute.getJavaType())) {
+				throw new DAOParameterException("Attribute " + attribute.getName() + " of type "
+						+ attribute.getJavaType().getSimpleName() + " does not fit its projection.");
+			}
+			jpql.append(index == 0 ? "" : ", ").append("obj.").append(attribute.getName())
+					.append(" AS ").append(attribute.getName());
+		}
+		if (selectId) {
+			jpql.append(", obj.id AS ").append(PROJECTION_ID_ALIAS);
+		}
+		jpql.append(" FROM ").append(this.entityClass.getSimpleName()).append(" obj");
+		if (afterId) {
+			jpql.append(" WHERE obj.id > :afterId");
+		}
+		jpql.append(" ORDER BY obj.id");
+		return queryEntityManager.createQuery(jpql.toString(), Tuple.class);
+	}
+
+	/**
+	 * Opens a dedicated read-only EntityManager and transaction for a stream,
+	 * which stays open until the stream is closed.
+	 *
+	 * @return the EntityManager backing the stream
+	 * @throws DatabaseConnectionException if it cannot be opened
+	 */
+	private EntityManager openStreamConnection() throws DatabaseConnectionException {
+		EntityManager streamEntityManager;
+		try {
+			streamEntityManager = EntityManagerFactoryRegistry.createEntityManager(getPersistenceUnitName());
+		} catch (Exception e) {
+			throw new DatabaseConnectionException("Failed to open JPA connection.", e);
+		}
+		try {
+			streamEntityManager.getTransaction().begin();
+			markReadOnly(streamEntityManager);
+		} catch (Exception e) {
+			closeStreamConnection(streamEntityManager);
+			throw new DatabaseConnectionException("Failed to open JPA connection.", e);
+		}
+		return streamEntityManager;
+	}
+
+	/**
+	 * Ends the read transaction of a stream and closes its dedicated
+	 * EntityManager.
+	 *
+	 * @param streamEntityManager the EntityManager backing the stream
+	 */
+	private void closeStreamConnection(EntityManager streamEntityManager) {
+		if (streamEntityManager.isOpen()) {
+			if (streamEntityManager.getTransaction().isActive()) {
+				streamEntityManager.getTransaction().rollback();
+			}
+			streamEntityManager.close();
+		}
+	}
+
 	/**
 	 * Builds the JPQL select query string for the given entity class.
 	 *
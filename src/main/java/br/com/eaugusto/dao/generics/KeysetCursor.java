@@ -0,0 +1,116 @@
+package br.com.eaugusto.dao.generics;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.LongUnaryOperator;
+
+import br.com.eaugusto.exceptions.DAOParameterException;
+
+/**
+ * Position of the last row of a keyset page: the value of the sort attribute
+ * and the entity ID used as tie-breaker, encoded as a URL-safe token.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class KeysetCursor {
+
+	private static final char SEPARATOR = '\u001F';
+
+	private final Object sortValue;
+
+	private final Long id;
+
+	KeysetCursor(Object sortValue, Long id) {
+		this.sortValue = sortValue;
+		this.id = id;
+	}
+
+	Object getSortValue() {
+		return sortValue;
+	}
+
+	Long getId() {
+		return id;
+	}
+
+	String encode() {
+		String raw = sortValue == null ? String.valueOf(id) : sortValue.toString() + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}.
+	 *
+	 * @param token    the cursor token
+	 * @param sortType the Java type of the sort attribute, or null for ID-only
+	 *                 cursors
+	 * @return the decoded cursor
+	 * @throws DAOParameterException if the token is malformed
+	 */
+	static KeysetCursor decode(String token, Class<?> sortType) throws DAOParameterException {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			if (sortType == null) {
+				return new KeysetCursor(null, Long.valueOf(raw));
+			}
+			int separator = raw.lastIndexOf(SEPARATOR);
+			return new KeysetCursor(parse(raw.substring(0, separator), sortType),
+					Long.valueOf(raw.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new DAOParameterException("Invalid page cursor: " + token, e);
+		}
+	}
+
+	/**
+	 * Rewrites the ID of a token without parsing its sort value, so it works for
+	 * any sort attribute.
+	 *
+	 * @param token  the cursor token
+	 * @param mapper maps the ID of the token
+	 * @return the token with the mapped ID
+	 * @throws DAOParameterException if the token is malformed
+	 */
+	static String mapId(String token, LongUnaryOperator mapper) throws DAOParameterException {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			long id = mapper.applyAsLong(Long.parseLong(raw.substring(separator + 1)));
+			String mapped = raw.substring(0, separator + 1) + id;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(mapped.getBytes(StandardCharsets.UTF_8));
+		} catch (RuntimeException e) {
+			throw new DAOParameterException("Invalid page cursor: " + token, e);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object parse(String value, Class<?> type) {
+		if (type == String.class) {
+			return value;
+		} else if (type == Long.class || type == long.class) {
+			return Long.valueOf(value);
+		} else if (type == Integer.class || type == int.class) {
+			return Integer.valueOf(value);
+		} else if (type == BigDecimal.class) {
+			return new BigDecimal(value);
+		} else if (type == BigInteger.class) {
+			return new BigInteger(value);
+		} else if (type == Double.class || type == double.class) {
+			return Double.valueOf(value);
+		} else if (type == Instant.class) {
+			return Instant.parse(value);
+		} else if (type == LocalDate.class) {
+			return LocalDate.parse(value);
+		} else if (type == LocalDateTime.class) {
+			return LocalDateTime.parse(value);
+		} else if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+		throw new DAOParameterException("Unsupported sort attribute type: " + type.getName());
+	}
+}
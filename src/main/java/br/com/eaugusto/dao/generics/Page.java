@@ -0,0 +1,121 @@
+package br.com.eaugusto.dao.generics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOParameterException;
+
+/**
+ * One page of a keyset (seek) paginated query.
+ * <p>
+ * Instead of an offset, the page carries an opaque cursor token that encodes
+ * the position of its last row. Passing the token back fetches the following
+ * page with the same cost as the first one.
+ *
+ * @param <T> the type of entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class Page<T> {
+
+	private final List<T> items;
+
+	private final String nextCursor;
+
+	private final Long lastId;
+
+	Page(List<T> items, String nextCursor, Long lastId) {
+		this.items = Collections.unmodifiableList(items);
+		this.nextCursor = nextCursor;
+		this.lastId = lastId;
+	}
+
+	/**
+	 * Builds an ID-ordered page from items merged by the caller, such as DAOs
+	 * that combine the pages of several databases. The cursor of the next page
+	 * holds only the ID of the last item.
+	 *
+	 * @param <T>     the type of entity
+	 * @param items   the items of the page, ordered by ID
+	 * @param hasNext whether more items follow
+	 * @return the page
+	 */
+	public static <T extends IPersistable> Page<T> ofIds(List<T> items, boolean hasNext) {
+		return ofIds(items, items.isEmpty() ? null : items.get(items.size() - 1).getId(), hasNext);
+	}
+
+	/**
+	 * Builds an ID-ordered page of items that are not entities, such as
+	 * projections, merged by the caller.
+	 *
+	 * @param <T>     the type of item
+	 * @param items   the items of the page, ordered by ID
+	 * @param lastId  the ID of the last item, or null if the page is empty
+	 * @param hasNext whether more items follow
+	 * @return the page
+	 */
+	public static <T> Page<T> ofIds(List<T> items, Long lastId, boolean hasNext) {
+		String nextCursor = hasNext && lastId != null ? new KeysetCursor(null, lastId).encode() : null;
+		return new Page<>(items, nextCursor, lastId);
+	}
+
+	/**
+	 * Builds a page sorted by an attribute from items merged by the caller. The
+	 * cursor of the next page holds the sort value and ID of the last item, in
+	 * the same format as the pages of
+	 * {@link IJPAGenericDAO#findPage(String, String, int)}.
+	 *
+	 * @param <T>           the type of entity
+	 * @param items         the items of the page, ordered by the attribute and ID
+	 * @param hasNext       whether more items follow
+	 * @param lastSortValue the sort value of the last item
+	 * @return the page
+	 */
+	public static <T extends IPersistable> Page<T> ofSortKey(List<T> items, boolean hasNext, Object lastSortValue) {
+		Long lastId = items.isEmpty() ? null : items.get(items.size() - 1).getId();
+		String nextCursor = hasNext && lastId != null ? new KeysetCursor(lastSortValue, lastId).encode() : null;
+		return new Page<>(items, nextCursor, lastId);
+	}
+
+	/**
+	 * Rewrites the ID held by a cursor, for DAOs whose databases number the same
+	 * rows differently.
+	 *
+	 * @param cursor the token of a page
+	 * @param mapper maps the ID of the last item
+	 * @return the token with the mapped ID
+	 * @throws DAOParameterException if the token is malformed
+	 */
+	public static String mapCursorId(String cursor, LongUnaryOperator mapper) throws DAOParameterException {
+		return KeysetCursor.mapId(cursor, mapper);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * @return the token of the next page, or null if this is the last page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * @return the ID of the last item, or null if the page is empty
+	 */
+	public Long getLastId() {
+		return lastId;
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	public int size() {
+		return items.size();
+	}
+}
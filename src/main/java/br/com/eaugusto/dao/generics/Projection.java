@@ -0,0 +1,346 @@
+package br.com.eaugusto.dao.generics;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+import javax.persistence.Tuple;
+
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+
+/**
+ * Maps the rows of a tuple query onto a projection type, without hydrating
+ * entities.
+ * <p>
+ * A projection is either a record, whose component names select the entity
+ * attributes and whose canonical constructor receives them, or an interface,
+ * whose getters (<code>getName()</code> or <code>name()</code>) select them and
+ * are backed by the row. Like records, interface projections are equal when
+ * their values are. Projections are resolved once per type.
+ *
+ * @param <P> the type of projection
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class Projection<P> {
+
+	private static final String ID = "id";
+
+	private static final ClassValue<Projection<?>> PROJECTIONS = new ClassValue<>() {
+
+		@Override
+		protected Projection<?> computeValue(Class<?> type) {
+			return create(type);
+		}
+	};
+
+	private final Class<P> type;
+
+	private final List<String> attributes;
+
+	private final List<Class<?>> attributeTypes;
+
+	private final Constructor<P> constructor;
+
+	private final Map<Method, String> getters;
+
+	private Projection(Class<P> type, List<String> attributes, List<Class<?>> attributeTypes,
+			Constructor<P> constructor, Map<Method, String> getters) {
+		this.type = type;
+		this.attributes = Collections.unmodifiableList(attributes);
+		this.attributeTypes = Collections.unmodifiableList(attributeTypes);
+		this.constructor = constructor;
+		this.getters = getters;
+	}
+
+	/**
+	 * @param <P>  the type of projection
+	 * @param type a record or interface
+	 * @return the projection of the type
+	 * @throws DAOParameterException if the type is neither a record nor an
+	 *                               interface with getters
+	 */
+	@SuppressWarnings("unchecked")
+	static <P> Projection<P> of(Class<P> type) throws DAOParameterException {
+		if (type == null) {
+			throw new DAOParameterException("Projection type cannot be null.");
+		}
+		try {
+			return (Projection<P>) PROJECTIONS.get(type);
+		} catch (IllegalArgumentException e) {
+			throw new DAOParameterException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @return the names of the selected entity attributes, in constructor order
+	 */
+	List<String> getAttributes() {
+		return attributes;
+	}
+
+	/**
+	 * @return the declared type of each attribute, in the order of
+	 *         {@link #getAttributes()}
+	 */
+	List<Class<?>> getAttributeTypes() {
+		return attributeTypes;
+	}
+
+	/**
+	 * Builds the projection of one row, reading each attribute by its alias.
+	 *
+	 * @param row the row of the tuple query
+	 * @return the projection
+	 */
+	P map(Tuple row) {
+		if (constructor != null) {
+			Object[] values = new Object[attributes.size()];
+			for (int index = 0; index < values.length; index++) {
+				values[index] = row.get(attributes.get(index));
+			}
+			try {
+				return constructor.newInstance(values);
+			} catch (InvocationTargetException e) {
+				throw new DAOException("Error creating projection " + type.getSimpleName() + ".", e.getCause());
+			} catch (ReflectiveOperationException | IllegalArgumentException e) {
+				throw new DAOException("Error creating projection " + type.getSimpleName() + ".", e);
+			}
+		}
+
+		Map<String, Object> values = new HashMap<>();
+		for (String attribute : attributes) {
+			values.put(attribute, row.get(attribute));
+		}
+		return proxy(values);
+	}
+
+	private P proxy(Map<String, Object> values) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new ValuesHandler(values)));
+	}
+
+	/**
+	 * Tells whether projections of the type carry the ID of their entity.
+	 *
+	 * @param type a record or interface
+	 * @return true if the type has an <code>id</code> attribute
+	 * @throws DAOParameterException if the type is not a valid projection
+	 */
+	public static boolean hasId(Class<?> type) throws DAOParameterException {
+		return of(type).attributes.contains(ID);
+	}
+
+	/**
+	 * Reads the ID of a projection built by a DAO.
+	 *
+	 * @param projection the projection
+	 * @return its <code>id</code> attribute, or null if it has none
+	 * @throws DAOParameterException if the projection was not built by a DAO
+	 */
+	public static Long idOf(Object projection) throws DAOParameterException {
+		Object id = projectionOf(projection).valuesOf(projection).get(ID);
+		return id == null ? null : ((Number) id).longValue();
+	}
+
+	/**
+	 * Copies a projection built by a DAO with its ID rewritten, for DAOs whose
+	 * databases number rows differently. Projections without an
+	 * <code>id</code> attribute, or with a null one, are returned as they are.
+	 *
+	 * @param <P>        the type of projection
+	 * @param projection the projection
+	 * @param mapper     maps the ID
+	 * @return the projection with the mapped ID
+	 * @throws DAOParameterException if the projection was not built by a DAO
+	 */
+	public static <P> P withId(P projection, LongUnaryOperator mapper) throws DAOParameterException {
+		Projection<?> mapping = projectionOf(projection);
+		Map<String, Object> values = mapping.valuesOf(projection);
+		if (values.get(ID) == null) {
+			return projection;
+		}
+		values.put(ID, mapper.applyAsLong(((Number) values.get(ID)).longValue()));
+
+		Object copy;
+		if (mapping.constructor != null) {
+			Object[] arguments = new Object[mapping.attributes.size()];
+			for (int index = 0; index < arguments.length; index++) {
+				arguments[index] = values.get(mapping.attributes.get(index));
+			}
+			try {
+				copy = mapping.constructor.newInstance(arguments);
+			} catch (ReflectiveOperationException | IllegalArgumentException e) {
+				throw new DAOException("Error creating projection " + mapping.type.getSimpleName() + ".", e);
+			}
+		} else {
+			copy = mapping.proxy(values);
+		}
+		@SuppressWarnings("unchecked")
+		P mapped = (P) copy;
+		return mapped;
+	}
+
+	private static Projection<?> projectionOf(Object projection) throws DAOParameterException {
+		if (projection == null) {
+			throw new DAOParameterException("Projection cannot be null.");
+		}
+		Class<?> type = projection.getClass();
+		if (Proxy.isProxyClass(type) && Proxy.getInvocationHandler(projection) instanceof Projection<?>.ValuesHandler) {
+			return of(type.getInterfaces()[0]);
+		}
+		if (type.isRecord()) {
+			return of(type);
+		}
+		throw new DAOParameterException("Object of type " + type.getName() + " is not a projection.");
+	}
+
+	/**
+	 * @return a modifiable copy of the attribute values of a projection of this
+	 *         type
+	 */
+	private Map<String, Object> valuesOf(Object projection) {
+		if (constructor == null) {
+			return new HashMap<>(((Projection<?>.ValuesHandler) Proxy.getInvocationHandler(projection)).values);
+		}
+		Map<String, Object> values = new HashMap<>();
+		for (RecordComponent component : type.getRecordComponents()) {
+			try {
+				Method accessor = component.getAccessor();
+				accessor.setAccessible(true);
+				values.put(component.getName(), accessor.invoke(projection));
+			} catch (ReflectiveOperationException e) {
+				throw new DAOException("Cannot read attribute " + component.getName() + ".", e);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Backs an interface projection with the values of its row. Two projections
+	 * of the same type are equal when their values are.
+	 */
+	private final class ValuesHandler implements InvocationHandler {
+
+		private final Map<String, Object> values;
+
+		private ValuesHandler(Map<String, Object> values) {
+			this.values = values;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+			String attribute = getters.get(method);
+			if (attribute != null) {
+				return values.get(attribute);
+			}
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, arguments);
+			}
+			switch (method.getName()) {
+			case "equals":
+				return arguments[0] != null && Proxy.isProxyClass(arguments[0].getClass())
+						&& Proxy.getInvocationHandler(arguments[0]) instanceof Projection<?>.ValuesHandler other
+						&& other.projection() == Projection.this && values.equals(other.values);
+			case "hashCode":
+				return values.hashCode();
+			case "toString":
+				return type.getSimpleName() + values;
+			default:
+				throw new DAOException("Projection " + type.getSimpleName() + " method " + method.getName()
+						+ " is not backed by an attribute.");
+			}
+		}
+
+		private Projection<P> projection() {
+			return Projection.this;
+		}
+	}
+
+	/**
+	 * Tells whether a value of an entity attribute can be passed as a projection
+	 * attribute, boxing primitives on both sides.
+	 *
+	 * @param attributeType the declared type of the projection attribute
+	 * @param entityType    the Java type of the entity attribute
+	 * @return true if the entity attribute fits the projection attribute
+	 */
+	static boolean accepts(Class<?> attributeType, Class<?> entityType) {
+		return box(attributeType).isAssignableFrom(box(entityType));
+	}
+
+	private static Class<?> box(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		}
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	private static <P> Projection<P> create(Class<P> type) {
+		List<String> attributes = new ArrayList<>();
+		List<Class<?>> attributeTypes = new ArrayList<>();
+
+		if (type.isRecord()) {
+			RecordComponent[] components = type.getRecordComponents();
+			Class<?>[] parameterTypes = new Class<?>[components.length];
+			for (int index = 0; index < components.length; index++) {
+				attributes.add(components[index].getName());
+				attributeTypes.add(components[index].getType());
+				parameterTypes[index] = components[index].getType();
+			}
+			try {
+				Constructor<P> constructor = type.getDeclaredConstructor(parameterTypes);
+				constructor.setAccessible(true);
+				return new Projection<>(type, attributes, attributeTypes, constructor, null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException("Projection " + type.getName() + " cannot be instantiated.", e);
+			}
+		}
+
+		if (type.isInterface()) {
+			Map<Method, String> getters = new HashMap<>();
+			for (Method method : type.getMethods()) {
+				if (!Modifier.isAbstract(method.getModifiers())) {
+					continue;
+				}
+				if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+					throw new IllegalArgumentException("Projection " + type.getName() + " declares non-getter method "
+							+ method.getName() + ".");
+				}
+				String attribute = toAttributeName(method.getName());
+				getters.put(method, attribute);
+				if (!attributes.contains(attribute)) {
+					attributes.add(attribute);
+					attributeTypes.add(method.getReturnType());
+				}
+			}
+			if (!attributes.isEmpty()) {
+				return new Projection<>(type, attributes, attributeTypes, null, getters);
+			}
+		}
+		throw new IllegalArgumentException("Projection " + type.getName() + " must be a record or an interface with getters.");
+	}
+
+	private static String toAttributeName(String getter) {
+		for (String prefix : new String[] { "get", "is" }) {
+			if (getter.length() > prefix.length() && getter.startsWith(prefix)
+					&& Character.isUpperCase(getter.charAt(prefix.length()))) {
+				return Character.toLowerCase(getter.charAt(prefix.length())) + getter.substring(prefix.length() + 1);
+			}
+		}
+		return getter;
+	}
+}
@@ -0,0 +1,310 @@
+package br.com.eaugusto.dao.generics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Buffers registrations in memory and writes them in batches, turning many
+ * small transactions into a few large ones.
+ * <p>
+ * {@link #register(Object)} queues the entity and returns at once with a
+ * future that completes, with the entity and its generated ID, when the row is
+ * committed. A background thread takes up to a batch of queued entities, waiting
+ * at most one time window after the first, and writes them with
+ * {@link IJPAGenericDAO#registerAll(java.util.Collection)}. Entities of a failed
+ * batch are then registered one by one, so a single bad row does not fail the
+ * others, up to the maximum number of attempts. Invalid arguments are not
+ * retried.
+ * <p>
+ * The queue is bounded: when it is full, <code>register</code> blocks until
+ * there is room, and throws if none frees up within the offer timeout. The
+ * defaults come from the <code>br.com.eaugusto.write_behind.*</code> properties
+ * of the unit.
+ * <p>
+ * {@link #close()} stops accepting entities and waits until every queued one
+ * is written. It also runs from {@link EntityManagerFactoryRegistry#shutdownAll()}
+ * and the JVM shutdown hook, before the factories close. Registrations are
+ * written on the background thread, so they never join a
+ * {@link br.com.eaugusto.persistence.UnitOfWork} of the caller, and an entity
+ * is lost if the JVM stops abruptly before its future completes.
+ *
+ * @param <T> the type of entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class WriteBehindRegistrar<T extends IPersistable> implements AutoCloseable {
+
+	public static final String QUEUE_CAPACITY = "br.com.eaugusto.write_behind.queue_capacity";
+
+	public static final String BATCH_SIZE = "br.com.eaugusto.write_behind.batch_size";
+
+	public static final String WINDOW = "br.com.eaugusto.write_behind.window_ms";
+
+	public static final String MAX_ATTEMPTS = "br.com.eaugusto.write_behind.max_attempts";
+
+	public static final String OFFER_TIMEOUT = "br.com.eaugusto.write_behind.offer_timeout_ms";
+
+	private static final Logger LOGGER = Logger.getLogger(WriteBehindRegistrar.class.getName());
+
+	private final IJPAGenericDAO<T, ?> dao;
+
+	private final BlockingQueue<Pending<T>> queue;
+
+	private final int batchSize;
+
+	private final long windowNanos;
+
+	private final int maxAttempts;
+
+	private final long offerTimeoutNanos;
+
+	private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+	private final Runnable shutdownAction = this::close;
+
+	private final Thread flusher;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param dao                 the DAO that writes the batches
+	 * @param persistenceUnitName the unit whose properties configure the buffer
+	 */
+	public WriteBehindRegistrar(IJPAGenericDAO<T, ?> dao, String persistenceUnitName) {
+		this(dao, EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, QUEUE_CAPACITY, 10_000),
+				EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, BATCH_SIZE, 500),
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, WINDOW, 20)),
+				EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, MAX_ATTEMPTS, 3),
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, OFFER_TIMEOUT, 5000)));
+	}
+
+	/**
+	 * @param dao           the DAO that writes the batches
+	 * @param queueCapacity the most entities waiting to be written
+	 * @param batchSize     the most entities written in one batch
+	 * @param window        how long a batch waits to fill after its first entity,
+	 *                      and how often the flusher checks for a close; must be
+	 *                      positive
+	 * @param maxAttempts   the most attempts per entity, the batch included
+	 * @param offerTimeout  how long <code>register</code> waits for room in the
+	 *                      queue
+	 */
+	public WriteBehindRegistrar(IJPAGenericDAO<T, ?> dao, int queueCapacity, int batchSize, Duration window,
+			int maxAttempts, Duration offerTimeout) {
+		if (dao == null) {
+			throw new DAOParameterException("DAO cannot be null.");
+		}
+		if (queueCapacity < 1 || batchSize < 1 || maxAttempts < 1) {
+			throw new DAOParameterException("Queue capacity, batch size and attempts must be positive.");
+		}
+		if (window == null || window.isZero() || window.isNegative()) {
+			throw new DAOParameterException("Window must be positive.");
+		}
+		if (offerTimeout == null || offerTimeout.isNegative()) {
+			throw new DAOParameterException("Offer timeout cannot be null or negative.");
+		}
+		this.dao = dao;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.windowNanos = window.toNanos();
+		this.maxAttempts = maxAttempts;
+		this.offerTimeoutNanos = offerTimeout.toNanos();
+		this.flusher = new Thread(this::flushUntilClosed, "write-behind-registrar");
+		this.flusher.setDaemon(true);
+		this.flusher.start();
+		EntityManagerFactoryRegistry.addShutdownAction(shutdownAction);
+	}
+
+	/**
+	 * Queues an entity to be registered, waiting while the queue is full.
+	 *
+	 * @param entity the entity to register
+	 * @return a future completed with the entity once it is committed, or
+	 *         failed once every attempt failed
+	 * @throws DAOParameterException if the entity is null
+	 * @throws DAOException          if the registrar is closed, the queue stayed
+	 *                               full for the offer timeout or the caller was
+	 *                               interrupted
+	 */
+	public CompletableFuture<T> register(T entity) throws DAOParameterException, DAOException {
+		if (entity == null) {
+			throw new DAOParameterException("Cannot register a null entity.");
+		}
+
+		Pending<T> pending = new Pending<>(entity);
+		Lock lock = closeLock.readLock();
+		lock.lock();
+		try {
+			if (closed) {
+				throw new DAOException("Write-behind registrar is closed.");
+			}
+			if (!queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw new DAOException("Write-behind queue stayed full for "
+						+ TimeUnit.NANOSECONDS.toMillis(offerTimeoutNanos) + " ms.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DAOException("Interrupted while waiting for room in the write-behind queue.", e);
+		} finally {
+			lock.unlock();
+		}
+		return pending.future;
+	}
+
+	/**
+	 * @return the number of entities queued and not yet taken into a batch
+	 */
+	public int getPendingCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Stops accepting entities and waits until every queued one is written.
+	 */
+	@Override
+	public void close() {
+		Lock lock = closeLock.writeLock();
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		} finally {
+			lock.unlock();
+		}
+		EntityManagerFactoryRegistry.removeShutdownAction(shutdownAction);
+
+		boolean interrupted = false;
+		while (flusher.isAlive()) {
+			try {
+				flusher.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes batches until the registrar is closed and the queue is empty. The
+	 * flusher is never interrupted on purpose, so an interrupt only cuts the
+	 * current window short.
+	 */
+	private void flushUntilClosed() {
+		List<Pending<T>> batch = new ArrayList<>(batchSize);
+		while (!closed || !queue.isEmpty()) {
+			try {
+				Pending<T> first = queue.poll(windowNanos, TimeUnit.NANOSECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				long deadline = System.nanoTime() + windowNanos;
+				while (batch.size() < batchSize) {
+					queue.drainTo(batch, batchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+					if (batch.size() == batchSize || remaining <= 0 || closed) {
+						break;
+					}
+					Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				LOGGER.fine("Write-behind flusher interrupted, writing the current batch.");
+			}
+			flush(batch);
+			batch.clear();
+		}
+	}
+
+	private void flush(List<Pending<T>> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		List<T> entities = new ArrayList<>(batch.size());
+		batch.forEach(pending -> entities.add(pending.entity));
+		Set<T> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+		Exception failure = null;
+		try {
+			BatchResult<T> result = dao.registerAll(entities);
+			for (ChunkResult<T> chunk : result.getFailedChunks()) {
+				failed.addAll(chunk.getFailedEntities());
+				failure = chunk.getFailure();
+			}
+		} catch (RuntimeException e) {
+			failed.addAll(entities);
+			failure = e;
+		}
+
+		for (Pending<T> pending : batch) {
+			if (failed.contains(pending.entity)) {
+				retry(pending, failure);
+			} else {
+				pending.future.complete(pending.entity);
+			}
+		}
+	}
+
+	/**
+	 * Registers the entity of a failed batch on its own, up to the remaining
+	 * attempts.
+	 */
+	private void retry(Pending<T> pending, Exception batchFailure) {
+		Exception last = batchFailure;
+		for (int attempt = 2; attempt <= maxAttempts; attempt++) {
+			try {
+				pending.future.complete(dao.register(pending.entity));
+				return;
+			} catch (DAOParameterException e) {
+				last = e;
+				break;
+			} catch (RuntimeException e) {
+				pending.entity.setId(null);
+				last = e;
+			}
+		}
+		LOGGER.log(Level.WARNING, "Write-behind registration failed after " + maxAttempts + " attempts.", last);
+		pending.future.completeExceptionally(
+				new DAOException("Write-behind registration failed after " + maxAttempts + " attempts.", last));
+	}
+
+	/**
+	 * A queued entity and the future of its caller.
+	 */
+	private static final class Pending<T> {
+
+		private final T entity;
+
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private Pending(T entity) {
+			this.entity = entity;
+		}
+	}
+}
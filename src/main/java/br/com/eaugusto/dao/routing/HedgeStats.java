@@ -0,0 +1,91 @@
+package br.com.eaugusto.dao.routing;
+
+/**
+ * Point-in-time snapshot of the counters of a {@link HedgedReadClientDAO}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class HedgeStats {
+
+	private final long reads;
+	private final long hedges;
+	private final long hedgeWins;
+	private final long hedgesDenied;
+	private final long failovers;
+	private final long delayNanos;
+
+	HedgeStats(long reads, long hedges, long hedgeWins, long hedgesDenied, long failovers, long delayNanos) {
+		this.reads = reads;
+		this.hedges = hedges;
+		this.hedgeWins = hedgeWins;
+		this.hedgesDenied = hedgesDenied;
+		this.failovers = failovers;
+		this.delayNanos = delayNanos;
+	}
+
+	/**
+	 * @return the number of hedgeable reads
+	 */
+	public long getReads() {
+		return reads;
+	}
+
+	/**
+	 * @return the number of reads that also went to the secondary database
+	 *         because the preferred one was too slow
+	 */
+	public long getHedges() {
+		return hedges;
+	}
+
+	/**
+	 * @return the number of hedged reads the secondary database answered first
+	 */
+	public long getHedgeWins() {
+		return hedgeWins;
+	}
+
+	/**
+	 * @return the number of reads that were due a hedge but did not get one
+	 *         because the budget was spent
+	 */
+	public long getHedgesDenied() {
+		return hedgesDenied;
+	}
+
+	/**
+	 * @return the number of reads retried on the secondary database because the
+	 *         preferred one failed
+	 */
+	public long getFailovers() {
+		return failovers;
+	}
+
+	/**
+	 * @return the current hedge delay, in nanoseconds
+	 */
+	public long getDelayNanos() {
+		return delayNanos;
+	}
+
+	/**
+	 * @return the share of reads that were hedged, from 0 to 1
+	 */
+	public double getHedgeRate() {
+		return reads == 0 ? 0 : (double) hedges / reads;
+	}
+
+	/**
+	 * @return the share of hedges the secondary database won, from 0 to 1
+	 */
+	public double getWinRate() {
+		return hedges == 0 ? 0 : (double) hedgeWins / hedges;
+	}
+
+	@Override
+	public String toString() {
+		return "HedgeStats [reads=" + reads + ", hedges=" + hedges + ", hedgeWins=" + hedgeWins + ", hedgesDenied="
+				+ hedgesDenied + ", failovers=" + failovers + ", delayMillis=" + delayNanos / 1_000_000.0 + "]";
+	}
+}
@@ -0,0 +1,300 @@
+package br.com.eaugusto.dao.routing;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import br.com.eaugusto.dao.IJPAClientDAO;
+import br.com.eaugusto.dao.generics.DelegatingJPAGenericDAO;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+import br.com.eaugusto.persistence.metrics.LatencyHistogram;
+import br.com.eaugusto.persistence.metrics.LatencySnapshot;
+
+/**
+ * Client DAO that hedges reads by ID across two databases holding the same
+ * clients under the same IDs, such as DB1 and DB2.
+ * <p>
+ * <code>findById</code> is sent to the preferred database. If it has not
+ * answered once the hedge delay passes, the same read is also sent to the
+ * secondary database; the first answer is returned and the other read is
+ * cancelled. The delay follows a percentile (p95 by default) of the preferred
+ * database's recent latency, measured over windows of ten seconds and kept
+ * between a minimum and a maximum; until a window has enough reads, the
+ * maximum is used. A preferred read that loses to the hedge counts with the
+ * time it had run so far, so slow reads keep weighing on the percentile
+ * instead of leaving only the fast ones in the window.
+ * <p>
+ * Hedges are limited by a budget: every read earns a share of a hedge equal to
+ * the budget percentage, and a hedge spends a whole one, so extra reads stay
+ * below that percentage of all reads, apart from a burst of ten. A preferred
+ * read that fails is retried on the secondary database at once, outside the
+ * budget. Invalid arguments are not retried.
+ * <p>
+ * Reads run on virtual threads, so they do not join a
+ * {@link br.com.eaugusto.persistence.UnitOfWork} open on the calling thread.
+ * A cancelled read is interrupted; if the JDBC driver does not react to the
+ * interrupt, the query finishes in the background and its result is dropped.
+ * Other reads and all writes go to the preferred DAO only, so keep both
+ * databases in sync with a {@link MultiDatabaseClientDAO} as the preferred
+ * DAO, or by other means.
+ *
+ * @param <T> the type of client entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class HedgedReadClientDAO<T extends IPersistable> extends DelegatingJPAGenericDAO<T, Long>
+		implements IJPAClientDAO<T> {
+
+	private static final ExecutorService EXECUTOR = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("hedged-reader-", 0).factory());
+
+	private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private static final int MIN_WINDOW_SAMPLES = 50;
+
+	private static final long HEDGE_COST = 1_000;
+
+	private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+	private final IJPAClientDAO<T> preferred;
+
+	private final IJPAClientDAO<T> secondary;
+
+	private final double percentile;
+
+	private final long minDelayNanos;
+
+	private final long maxDelayNanos;
+
+	private final long earnedPerRead;
+
+	private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+
+	private final LatencyHistogram[] windows = { new LatencyHistogram(), new LatencyHistogram() };
+
+	private final AtomicBoolean rotating = new AtomicBoolean();
+
+	private volatile int currentWindow;
+
+	private volatile long windowStartedAt = System.nanoTime();
+
+	private volatile long delayNanos;
+
+	private final LongAdder reads = new LongAdder();
+
+	private final LongAdder hedges = new LongAdder();
+
+	private final LongAdder hedgeWins = new LongAdder();
+
+	private final LongAdder hedgesDenied = new LongAdder();
+
+	private final LongAdder failovers = new LongAdder();
+
+	/**
+	 * Hedges after the p95 latency, between 2 ms and 500 ms, for at most 5% of
+	 * the reads.
+	 */
+	public HedgedReadClientDAO(IJPAClientDAO<T> preferred, IJPAClientDAO<T> secondary) {
+		this(preferred, secondary, 95, Duration.ofMillis(2), Duration.ofMillis(500), 5);
+	}
+
+	/**
+	 * @param preferred     the DAO every read goes to first
+	 * @param secondary     the DAO hedges and failovers go to
+	 * @param percentile    the percentile of the preferred latency after which
+	 *                      to hedge, from 0 to 100
+	 * @param minDelay      the shortest hedge delay
+	 * @param maxDelay      the longest hedge delay, also used until enough
+	 *                      latencies are known
+	 * @param budgetPercent the highest share of reads to hedge, from 0 to 100
+	 */
+	public HedgedReadClientDAO(IJPAClientDAO<T> preferred, IJPAClientDAO<T> secondary, double percentile,
+			Duration minDelay, Duration maxDelay, double budgetPercent) {
+		if (preferred == null || secondary == null) {
+			throw new DAOParameterException("Preferred and secondary DAOs cannot be null.");
+		}
+		if (minDelay == null || maxDelay == null || minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+			throw new DAOParameterException("Hedge delays must satisfy 0 <= minDelay <= maxDelay.");
+		}
+		if (percentile < 0 || percentile > 100 || budgetPercent < 0 || budgetPercent > 100) {
+			throw new DAOParameterException("Percentile and budget must be between 0 and 100.");
+		}
+		this.preferred = preferred;
+		this.secondary = secondary;
+		this.percentile = percentile;
+		this.minDelayNanos = minDelay.toNanos();
+		this.maxDelayNanos = maxDelay.toNanos();
+		this.earnedPerRead = Math.round(budgetPercent / 100 * HEDGE_COST);
+		this.delayNanos = maxDelayNanos;
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, Long> readDelegate() {
+		return preferred;
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, Long> writeDelegate() {
+		return preferred;
+	}
+
+	@Override
+	public T findById(Long id) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (id == null) {
+			throw new DAOParameterException("ID cannot be null.");
+		}
+		return hedge(dao -> dao.findById(id));
+	}
+
+	@Override
+	public T findById(Long id, String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (id == null) {
+			throw new DAOParameterException("ID cannot be null.");
+		}
+		return hedge(dao -> dao.findById(id, fetchPlan));
+	}
+
+	/**
+	 * @return the hedge counters and the current delay
+	 */
+	public HedgeStats getStats() {
+		return new HedgeStats(reads.sum(), hedges.sum(), hedgeWins.sum(), hedgesDenied.sum(), failovers.sum(),
+				delayNanos);
+	}
+
+	/**
+	 * Clears the hedge counters. The latency windows and budget are kept.
+	 */
+	public void resetStats() {
+		reads.reset();
+		hedges.reset();
+		hedgeWins.reset();
+		hedgesDenied.reset();
+		failovers.reset();
+	}
+
+	/**
+	 * Runs the read on the preferred DAO, adding the secondary one if the
+	 * preferred is slow or fails, and returns the first successful answer.
+	 */
+	private T hedge(Function<IJPAClientDAO<T>, T> read) {
+		reads.increment();
+		earnBudget();
+
+		ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(EXECUTOR);
+		long startedAt = System.nanoTime();
+		AtomicBoolean recorded = new AtomicBoolean();
+		Future<T> first = completion.submit(() -> {
+			T result = read.apply(preferred);
+			if (recorded.compareAndSet(false, true)) {
+				recordPreferredLatency(System.nanoTime() - startedAt);
+			}
+			return result;
+		});
+		Future<T> second = null;
+		try {
+			Future<T> done = completion.poll(delayNanos, TimeUnit.NANOSECONDS);
+			if (done == null) {
+				if (spendBudget()) {
+					hedges.increment();
+					second = completion.submit(() -> read.apply(secondary));
+				} else {
+					hedgesDenied.increment();
+				}
+				done = completion.take();
+			}
+
+			try {
+				T result = done.get();
+				if (done == second) {
+					hedgeWins.increment();
+				}
+				return result;
+			} catch (ExecutionException e) {
+				if (second == null) {
+					if (e.getCause() instanceof DAOParameterException parameterException) {
+						throw parameterException;
+					}
+					failovers.increment();
+					second = completion.submit(() -> read.apply(secondary));
+				}
+				try {
+					return completion.take().get();
+				} catch (ExecutionException other) {
+					RuntimeException failure = unwrap(other);
+					failure.addSuppressed(e.getCause());
+					throw failure;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DAOException("Interrupted while waiting for a hedged read.", e);
+		} finally {
+			if (!first.isDone() && recorded.compareAndSet(false, true)) {
+				recordPreferredLatency(System.nanoTime() - startedAt);
+			}
+			first.cancel(true);
+			if (second != null) {
+				second.cancel(true);
+			}
+		}
+	}
+
+	private void earnBudget() {
+		budget.getAndUpdate(current -> Math.min(MAX_BUDGET, current + earnedPerRead));
+	}
+
+	private boolean spendBudget() {
+		long current;
+		do {
+			current = budget.get();
+			if (current < HEDGE_COST) {
+				return false;
+			}
+		} while (!budget.compareAndSet(current, current - HEDGE_COST));
+		return true;
+	}
+
+	/**
+	 * Records the latency of a preferred read, or the time it had run when it
+	 * lost the race, and, when the window is over, moves the delay to the
+	 * window's percentile and starts a new window.
+	 */
+	private void recordPreferredLatency(long nanos) {
+		windows[currentWindow].record(nanos);
+		long now = System.nanoTime();
+		if (now - windowStartedAt >= WINDOW_NANOS && rotating.compareAndSet(false, true)) {
+			try {
+				int ended = currentWindow;
+				int next = 1 - ended;
+				windows[next].reset();
+				currentWindow = next;
+				windowStartedAt = now;
+				LatencySnapshot latency = windows[ended].snapshot();
+				if (latency.getCount() >= MIN_WINDOW_SAMPLES) {
+					delayNanos = Math.min(maxDelayNanos, Math.max(minDelayNanos, latency.valueAtPercentile(percentile)));
+				}
+			} finally {
+				rotating.set(false);
+			}
+		}
+	}
+
+	private static RuntimeException unwrap(ExecutionException e) {
+		return e.getCause() instanceof RuntimeException runtime ? runtime
+				: new DAOException("Hedged read failed.", e.getCause());
+	}
+}
@@ -0,0 +1,539 @@
+package br.com.eaugusto.dao.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import br.com.eaugusto.dao.IJPAClientDAO;
+import br.com.eaugusto.dao.generics.BatchResult;
+import br.com.eaugusto.dao.generics.DelegatingJPAGenericDAO;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+import br.com.eaugusto.persistence.EntityCopier;
+
+/**
+ * Client DAO that keeps several databases in sync by applying every write to
+ * all of its targets concurrently.
+ * <p>
+ * Every write, batch and bulk ones included, runs on every target in parallel
+ * on virtual threads, so its latency is that of the slowest target rather than
+ * the sum of all of them. Each target receives its own copy of the entity and
+ * has its own timeout; a target that times out counts as failed, although its
+ * write may still complete later.
+ * <p>
+ * When the {@link WritePolicy} is not met, the targets that succeeded are
+ * compensated: registered rows are deleted, updated rows get their previous
+ * state back and deleted rows are registered again (with a new ID, since IDs
+ * are generated, which is set on the caller's entity). Bulk changes cannot be
+ * compensated and only report the rejection. Reads are served by the first
+ * target, the primary, so a write is also rejected when the primary fails,
+ * even if the policy is met without it.
+ * <p>
+ * Each target assigns its own ID on registration. The primary one is set on
+ * the caller's entity, and the others are remembered when they differ from it;
+ * for other entities, all targets are assumed to share the same ID. The
+ * remembered IDs are kept in memory only, by this DAO instance, and are lost
+ * when it is discarded or the application restarts.
+ *
+ * @param <T> the type of client entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class MultiDatabaseClientDAO<T extends IPersistable> extends DelegatingJPAGenericDAO<T, Long>
+		implements IJPAClientDAO<T> {
+
+	private static final Logger LOGGER = Logger.getLogger(MultiDatabaseClientDAO.class.getName());
+
+	private static final ExecutorService EXECUTOR = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("multi-database-writer-", 0).factory());
+
+	private final List<IJPAClientDAO<T>> targets;
+
+	private final List<Duration> timeouts;
+
+	private final WritePolicy policy;
+
+	private final Map<Long, Long[]> targetIds = new ConcurrentHashMap<>();
+
+	public MultiDatabaseClientDAO(List<IJPAClientDAO<T>> targets, WritePolicy policy, Duration timeout) {
+		this(targets, targets == null ? null : Collections.nCopies(targets.size(), timeout), policy);
+	}
+
+	public MultiDatabaseClientDAO(List<IJPAClientDAO<T>> targets, List<Duration> timeouts, WritePolicy policy) {
+		if (targets == null || targets.isEmpty()) {
+			throw new DAOParameterException("At least one target DAO is required.");
+		}
+		if (timeouts == null || timeouts.size() != targets.size() || timeouts.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("One timeout is required for each target DAO.");
+		}
+		if (policy == null) {
+			throw new DAOParameterException("Write policy cannot be null.");
+		}
+		this.targets = new ArrayList<>(targets);
+		this.timeouts = new ArrayList<>(timeouts);
+		this.policy = policy;
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, Long> readDelegate() {
+		return targets.get(0);
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, Long> writeDelegate() {
+		return targets.get(0);
+	}
+
+	@Override
+	public T register(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null) {
+			throw new DAOParameterException("Cannot register a null entity.");
+		}
+
+		List<T> copies = copiesOf(entity, null);
+		Outcome<T> outcome = fanOut(index -> targets.get(index).register(copies.get(index)));
+		if (!outcome.accepted()) {
+			compensate(outcome, index -> targets.get(index).delete(copies.get(index)));
+			throw outcome.toException("Register");
+		}
+		outcome.logPartialFailure("Register");
+
+		Long[] ids = new Long[targets.size()];
+		for (int index = 0; index < ids.length; index++) {
+			ids[index] = outcome.succeeded(index) ? copies.get(index).getId() : null;
+		}
+		entity.setId(ids[0]);
+		remember(entity.getId(), ids);
+		return entity;
+	}
+
+	@Override
+	public T update(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null) {
+			throw new DAOParameterException("Cannot update a null entity.");
+		}
+
+		Long[] ids = idsOf(entity.getId());
+		Outcome<T> before = fanOut(index -> ids[index] == null ? null : targets.get(index).findById(ids[index]));
+		List<T> copies = copiesOf(entity, ids);
+		Outcome<T> outcome = fanOut(index -> targets.get(index).update(existing(copies.get(index))));
+		if (!outcome.accepted()) {
+			compensate(outcome, index -> {
+				T previous = before.result(index);
+				if (previous != null) {
+					targets.get(index).update(previous);
+				}
+			});
+			throw outcome.toException("Update");
+		}
+		outcome.logPartialFailure("Update");
+		return outcome.result(0);
+	}
+
+	@Override
+	public void delete(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null) {
+			throw new DAOParameterException("Cannot delete a null entity.");
+		}
+
+		Long[] ids = idsOf(entity.getId());
+		Outcome<T> before = fanOut(index -> ids[index] == null ? null : targets.get(index).findById(ids[index]));
+		List<T> copies = copiesOf(entity, ids);
+		Outcome<Void> outcome = fanOut(index -> {
+			targets.get(index).delete(existing(copies.get(index)));
+			return null;
+		});
+		if (!outcome.accepted()) {
+			compensate(outcome, index -> {
+				T previous = before.result(index);
+				if (previous != null) {
+					previous.setId(null);
+					ids[index] = targets.get(index).register(previous).getId();
+				}
+			});
+			targetIds.remove(entity.getId());
+			entity.setId(ids[0]);
+			remember(entity.getId(), ids);
+			throw outcome.toException("Delete");
+		}
+		outcome.logPartialFailure("Delete");
+		targetIds.remove(entity.getId());
+	}
+
+	/**
+	 * Registers the entities on every target concurrently, each target writing
+	 * its own copies in batches. An entity counts as registered when the targets
+	 * that committed its copy satisfy the policy and include the primary;
+	 * otherwise its committed copies are deleted and it is returned among the
+	 * failed entities, with its ID reset, so the result can be retried like that
+	 * of a single database.
+	 */
+	@Override
+	public BatchResult<T> registerAll(Collection<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot register a null collection or null entities.");
+		}
+
+		List<T> originals = new ArrayList<>(entities);
+		List<List<T>> copies = new ArrayList<>(targets.size());
+		for (int index = 0; index < targets.size(); index++) {
+			List<T> targetCopies = new ArrayList<>(originals.size());
+			for (T entity : originals) {
+				T copy = EntityCopier.copy(entity);
+				copy.setId(null);
+				targetCopies.add(copy);
+			}
+			copies.add(targetCopies);
+		}
+		Outcome<BatchResult<T>> outcome = fanOut(index -> targets.get(index).registerAll(copies.get(index)));
+
+		List<T> failed = new ArrayList<>();
+		List<List<Long>> rejectedIds = new ArrayList<>(targets.size());
+		targets.forEach(target -> rejectedIds.add(new ArrayList<>()));
+		for (int position = 0; position < originals.size(); position++) {
+			Long[] ids = new Long[targets.size()];
+			int committed = 0;
+			for (int index = 0; index < ids.length; index++) {
+				ids[index] = outcome.succeeded(index) ? copies.get(index).get(position).getId() : null;
+				committed += ids[index] == null ? 0 : 1;
+			}
+
+			T entity = originals.get(position);
+			if (policy.isSatisfied(committed, targets.size()) && ids[0] != null) {
+				entity.setId(ids[0]);
+				remember(entity.getId(), ids);
+			} else {
+				entity.setId(null);
+				failed.add(entity);
+				for (int index = 0; index < ids.length; index++) {
+					if (ids[index] != null) {
+						rejectedIds.get(index).add(ids[index]);
+					}
+				}
+			}
+		}
+
+		if (failed.isEmpty()) {
+			outcome.logPartialFailure("Batch registration");
+			return BatchResult.of(originals.size(), failed, null);
+		}
+		compensate(outcome, index -> {
+			if (!rejectedIds.get(index).isEmpty()) {
+				targets.get(index).deleteByIds(rejectedIds.get(index));
+			}
+		});
+		DAOException failure = new DAOException(failed.size() + " of " + originals.size()
+				+ " entities were not registered on the primary and enough databases to satisfy the " + policy
+				+ " policy.");
+		for (int index = 0; index < targets.size(); index++) {
+			if (outcome.failures[index] != null) {
+				failure.addSuppressed(outcome.failures[index]);
+			} else if (outcome.succeeded(index)) {
+				outcome.result(index).getFailedChunks().forEach(chunk -> failure.addSuppressed(chunk.getFailure()));
+			}
+		}
+		LOGGER.log(Level.WARNING, "Batch registration partly rejected, successful databases were compensated.", failure);
+		return BatchResult.of(originals.size() - failed.size(), failed, failure);
+	}
+
+	/**
+	 * Collects the stream before registering, since every target needs its own
+	 * copies of the entities.
+	 *
+	 * @see #registerAll(Collection)
+	 */
+	@Override
+	public BatchResult<T> registerAll(Stream<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null) {
+			throw new DAOParameterException("Cannot register a null stream.");
+		}
+
+		return registerAll(entities.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Runs the bulk delete on every target concurrently. Bulk changes cannot be
+	 * compensated: when the policy is not met, the targets that succeeded keep
+	 * the change and an exception is thrown.
+	 *
+	 * @return the number of deleted rows, summed over the targets
+	 */
+	@Override
+	public int deleteAll() throws DAOException, DatabaseConnectionException {
+		int deleted = bulk("Delete all", index -> targets.get(index).deleteAll());
+		targetIds.clear();
+		return deleted;
+	}
+
+	/**
+	 * Deletes the entities on every target concurrently, translating each ID to
+	 * the one the target assigned.
+	 *
+	 * @return the number of deleted rows, summed over the targets
+	 * @see #deleteAll()
+	 */
+	@Override
+	public int deleteByIds(Collection<Long> ids) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot delete a null collection or null IDs.");
+		}
+
+		List<Long[]> perEntity = ids.stream().map(this::idsOf).collect(Collectors.toList());
+		int deleted = bulk("Delete by IDs", index -> {
+			List<Long> targetIdList = perEntity.stream().map(entityIds -> entityIds[index]).filter(Objects::nonNull)
+					.collect(Collectors.toList());
+			return targetIdList.isEmpty() ? 0 : targets.get(index).deleteByIds(targetIdList);
+		});
+		ids.forEach(targetIds::remove);
+		return deleted;
+	}
+
+	/**
+	 * @return the number of deleted rows, summed over the targets
+	 * @see #deleteAll()
+	 */
+	@Override
+	public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return bulk("Delete where", index -> targets.get(index).deleteWhere(criteria));
+	}
+
+	/**
+	 * @return the number of updated rows, summed over the targets
+	 * @see #deleteAll()
+	 */
+	@Override
+	public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return bulk("Update where", index -> targets.get(index).updateWhere(criteria, assignments));
+	}
+
+	public WritePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Runs a bulk change on every target and sums the affected rows.
+	 */
+	private int bulk(String operation, TargetOperation<Integer> change) {
+		Outcome<Integer> outcome = fanOut(change);
+		if (!outcome.accepted()) {
+			throw outcome.toException(operation, false);
+		}
+		outcome.logPartialFailure(operation);
+
+		int affected = 0;
+		for (int index = 0; index < targets.size(); index++) {
+			affected += outcome.succeeded(index) ? outcome.result(index) : 0;
+		}
+		return affected;
+	}
+
+	/**
+	 * Remembers the per-target IDs of an entity. IDs that all equal the primary
+	 * one are what {@link #idsOf(Long)} assumes anyway, so they are not stored,
+	 * and the map only grows with entities whose IDs diverge.
+	 */
+	private void remember(Long id, Long[] ids) {
+		if (Arrays.stream(ids).allMatch(id::equals)) {
+			targetIds.remove(id);
+		} else {
+			targetIds.put(id, ids);
+		}
+	}
+
+	private Long[] idsOf(Long id) {
+		Long[] ids = targetIds.get(id);
+		if (ids == null) {
+			ids = new Long[targets.size()];
+			Arrays.fill(ids, id);
+		}
+		return ids;
+	}
+
+	private List<T> copiesOf(T entity, Long[] ids) {
+		List<T> copies = new ArrayList<>(targets.size());
+		for (int index = 0; index < targets.size(); index++) {
+			T copy = EntityCopier.copy(entity);
+			copy.setId(ids == null ? null : ids[index]);
+			copies.add(copy);
+		}
+		return copies;
+	}
+
+	private T existing(T copy) throws DAOException {
+		if (copy.getId() == null) {
+			throw new DAOException("Entity was never registered on this database.");
+		}
+		return copy;
+	}
+
+	/**
+	 * Runs the operation on every target concurrently and waits for each one up
+	 * to its own timeout, measured from dispatch.
+	 */
+	private <R> Outcome<R> fanOut(TargetOperation<R> operation) {
+		return fanOut(operation, null);
+	}
+
+	private <R> Outcome<R> fanOut(TargetOperation<R> operation, Outcome<?> onlySucceededIn) {
+		List<Future<R>> futures = new ArrayList<>(targets.size());
+		for (int index = 0; index < targets.size(); index++) {
+			int target = index;
+			boolean skip = onlySucceededIn != null && !onlySucceededIn.succeeded(target);
+			futures.add(skip ? null : EXECUTOR.submit(() -> operation.apply(target)));
+		}
+
+		long dispatchedAt = System.nanoTime();
+		Outcome<R> outcome = new Outcome<>(targets.size());
+		for (int index = 0; index < futures.size(); index++) {
+			Future<R> future = futures.get(index);
+			if (future == null) {
+				continue;
+			}
+			long remaining = timeouts.get(index).toNanos() - (System.nanoTime() - dispatchedAt);
+			try {
+				outcome.succeed(index, future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+			} catch (TimeoutException e) {
+				future.cancel(true);
+				outcome.fail(index, new DAOException("Timed out after " + timeouts.get(index).toMillis()
+						+ " ms on database " + index + ".", e));
+			} catch (ExecutionException e) {
+				outcome.fail(index, e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.stream().filter(pending -> pending != null).forEach(pending -> pending.cancel(true));
+				outcome.fail(index, e);
+			}
+		}
+		return outcome;
+	}
+
+	/**
+	 * Undoes a rejected write on the targets where it succeeded. Compensation is
+	 * best effort: failures are logged and do not hide the original error.
+	 */
+	private void compensate(Outcome<?> outcome, TargetAction compensation) {
+		Outcome<Void> compensated = fanOut(index -> {
+			compensation.apply(index);
+			return null;
+		}, outcome);
+		for (int index = 0; index < targets.size(); index++) {
+			if (outcome.succeeded(index) && !compensated.succeeded(index)) {
+				LOGGER.log(Level.WARNING, "Compensation failed on database " + index
+						+ ", it may be out of sync.", compensated.failures[index]);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface TargetOperation<R> {
+		R apply(int index) throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface TargetAction {
+		void apply(int index) throws Exception;
+	}
+
+	/**
+	 * Per-target results and failures of one fan-out.
+	 */
+	private final class Outcome<R> {
+
+		private final Object[] results;
+
+		private final Throwable[] failures;
+
+		private final boolean[] succeeded;
+
+		private Outcome(int size) {
+			this.results = new Object[size];
+			this.failures = new Throwable[size];
+			this.succeeded = new boolean[size];
+		}
+
+		private void succeed(int index, R result) {
+			results[index] = result;
+			succeeded[index] = true;
+		}
+
+		private void fail(int index, Throwable failure) {
+			failures[index] = failure;
+		}
+
+		private boolean succeeded(int index) {
+			return succeeded[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		private R result(int index) {
+			return (R) results[index];
+		}
+
+		private int successCount() {
+			int count = 0;
+			for (boolean success : succeeded) {
+				count += success ? 1 : 0;
+			}
+			return count;
+		}
+
+		/**
+		 * @return true if the policy is met and the primary, which serves the
+		 *         reads, is among the targets that succeeded
+		 */
+		private boolean accepted() {
+			return succeeded[0] && policy.isSatisfied(successCount(), succeeded.length);
+		}
+
+		private void logPartialFailure(String operation) {
+			for (int index = 0; index < failures.length; index++) {
+				if (failures[index] != null) {
+					LOGGER.log(Level.WARNING, operation + " accepted by the " + policy + " policy but failed on database "
+							+ index + ", it may be out of sync.", failures[index]);
+				}
+			}
+		}
+
+		private DAOException toException(String operation) {
+			return toException(operation, true);
+		}
+
+		private DAOException toException(String operation, boolean compensated) {
+			DAOException exception = new DAOException(succeeded[0] || !policy.isSatisfied(successCount(), succeeded.length)
+					? operation + " succeeded on " + successCount() + " of " + succeeded.length
+							+ " databases, which does not satisfy the " + policy + " policy."
+					: operation + " failed on the primary database, which serves the reads.");
+			for (Throwable failure : failures) {
+				if (failure != null) {
+					exception.addSuppressed(failure);
+				}
+			}
+			if (successCount() > 0) {
+				LOGGER.log(Level.WARNING, operation + " rejected, successful databases were "
+						+ (compensated ? "compensated." : "not compensated and may be out of sync."), exception);
+			}
+			return exception;
+		}
+	}
+}
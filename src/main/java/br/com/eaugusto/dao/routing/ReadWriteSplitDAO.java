@@ -0,0 +1,267 @@
+package br.com.eaugusto.dao.routing;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.persistence.NoResultException;
+
+import br.com.eaugusto.dao.generics.BatchResult;
+import br.com.eaugusto.dao.generics.DelegatingJPAGenericDAO;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.dao.generics.Page;
+import br.com.eaugusto.domain.IPersistable;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+
+/**
+ * DAO that sends writes to a primary database and reads to a read replica.
+ * <p>
+ * Whether a read may use the replica is decided by a {@link ReplicaRouter}:
+ * reads right after a write of the same thread, or while the replica lags, go
+ * to the primary. A replica read that fails is retried on the primary and the
+ * replica is skipped for the router's retry period. Invalid arguments are not
+ * retried. Lookups by ID or natural key that find nothing on the replica are
+ * repeated on the primary, since the rows may not have been replicated yet.
+ *
+ * @param <T> the type of entity
+ * @param <E> the type of entity ID
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ReadWriteSplitDAO<T extends IPersistable, E extends Serializable> extends DelegatingJPAGenericDAO<T, E> {
+
+	private final IJPAGenericDAO<T, E> primary;
+
+	private final IJPAGenericDAO<T, E> replica;
+
+	private final ReplicaRouter router;
+
+	public ReadWriteSplitDAO(IJPAGenericDAO<T, E> primary, IJPAGenericDAO<T, E> replica, ReplicaRouter router) {
+		if (primary == null || replica == null || router == null) {
+			throw new DAOParameterException("Primary, replica and router cannot be null.");
+		}
+		this.primary = primary;
+		this.replica = replica;
+		this.router = router;
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, E> readDelegate() {
+		return router.useReplica() ? replica : primary;
+	}
+
+	@Override
+	protected IJPAGenericDAO<T, E> writeDelegate() {
+		return primary;
+	}
+
+	@Override
+	public T register(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.register(entity));
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Collection<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.registerAll(entities));
+	}
+
+	@Override
+	public BatchResult<T> registerAll(Stream<T> entities) throws DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.registerAll(entities));
+	}
+
+	@Override
+	public void delete(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		write(dao -> {
+			dao.delete(entity);
+			return null;
+		});
+	}
+
+	@Override
+	public T update(T entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.update(entity));
+	}
+
+	@Override
+	public int deleteAll() throws DAOException, DatabaseConnectionException {
+		return write(IJPAGenericDAO::deleteAll);
+	}
+
+	@Override
+	public int deleteByIds(Collection<E> ids) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.deleteByIds(ids));
+	}
+
+	@Override
+	public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.deleteWhere(criteria));
+	}
+
+	@Override
+	public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return write(dao -> dao.updateWhere(criteria, assignments));
+	}
+
+	@Override
+	public T findById(E id) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readSingle(primary, replica, dao -> dao.findById(id));
+	}
+
+	@Override
+	public T findByNaturalId(Object naturalId) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readSingle(primary, replica, dao -> dao.findByNaturalId(naturalId));
+	}
+
+	@Override
+	public List<T> findByNaturalIds(Collection<?> naturalIds)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(primary, replica, dao -> dao.findByNaturalIds(naturalIds),
+				found -> naturalIds != null && found.size() < new HashSet<>(naturalIds).size());
+	}
+
+	@Override
+	public Collection<T> findAll() throws DAOException, DatabaseConnectionException {
+		return read(IJPAGenericDAO::findAll);
+	}
+
+	@Override
+	public Page<T> findPage(E afterId, int limit) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findPage(afterId, limit));
+	}
+
+	@Override
+	public T findById(E id, String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return readSingle(primary, replica, dao -> dao.findById(id, fetchPlan));
+	}
+
+	@Override
+	public Collection<T> findAll(String fetchPlan) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findAll(fetchPlan));
+	}
+
+	@Override
+	public Page<T> findPage(E afterId, int limit, String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findPage(afterId, limit, fetchPlan));
+	}
+
+	@Override
+	public Page<T> findPage(String sortAttribute, String cursor, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findPage(sortAttribute, cursor, limit));
+	}
+
+	/**
+	 * Opens the stream on the replica when allowed. Only opening the stream falls
+	 * back to the primary; failures while consuming it are not retried.
+	 */
+	@Override
+	public Stream<T> streamAll() throws DAOException, DatabaseConnectionException {
+		return read(IJPAGenericDAO::streamAll);
+	}
+
+	@Override
+	public void forEach(Consumer<T> action) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (action == null) {
+			throw new DAOParameterException("Action cannot be null.");
+		}
+		try (Stream<T> entities = streamAll()) {
+			entities.forEach(action);
+		}
+	}
+
+	@Override
+	public <P> List<P> findAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findAllAs(projection));
+	}
+
+	@Override
+	public <P> Page<P> findPageAs(Class<P> projection, E afterId, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.findPageAs(projection, afterId, limit));
+	}
+
+	@Override
+	public <P> Stream<P> streamAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return read(dao -> dao.streamAllAs(projection));
+	}
+
+	public ReplicaRouter getRouter() {
+		return router;
+	}
+
+	/**
+	 * Runs a write on the primary and starts the thread's read-your-writes
+	 * window, even if the write failed after reaching the database.
+	 */
+	protected <R, D extends IJPAGenericDAO<T, E>> R write(D dao, Function<D, R> operation) {
+		try {
+			return operation.apply(dao);
+		} finally {
+			router.recordWrite();
+		}
+	}
+
+	/**
+	 * Runs a read on the replica when the router allows it, falling back to the
+	 * primary if the replica fails.
+	 */
+	protected <R, D extends IJPAGenericDAO<T, E>> R read(D primaryDao, D replicaDao, Function<D, R> operation) {
+		return read(primaryDao, replicaDao, operation, result -> false);
+	}
+
+	/**
+	 * Runs a read of a single row on the replica when the router allows it. A
+	 * row missing on the replica may not have been replicated yet, so a null
+	 * result is looked up on the primary as well.
+	 */
+	protected <R, D extends IJPAGenericDAO<T, E>> R readSingle(D primaryDao, D replicaDao, Function<D, R> operation) {
+		return read(primaryDao, replicaDao, operation, Objects::isNull);
+	}
+
+	/**
+	 * Runs a read on the replica when the router allows it, falling back to the
+	 * primary if the replica fails or its result is missing rows.
+	 *
+	 * @param missing whether a replica result lacks rows the primary may have
+	 */
+	protected <R, D extends IJPAGenericDAO<T, E>> R read(D primaryDao, D replicaDao, Function<D, R> operation,
+			Predicate<R> missing) {
+		if (!router.useReplica()) {
+			return operation.apply(primaryDao);
+		}
+		try {
+			R result = operation.apply(replicaDao);
+			return missing.test(result) ? operation.apply(primaryDao) : result;
+		} catch (DAOParameterException e) {
+			throw e;
+		} catch (NoResultException e) {
+			return operation.apply(primaryDao);
+		} catch (RuntimeException e) {
+			router.markUnavailable(e);
+			return operation.apply(primaryDao);
+		}
+	}
+
+	private <R> R write(Function<IJPAGenericDAO<T, E>, R> operation) {
+		return write(primary, operation);
+	}
+
+	private <R> R read(Function<IJPAGenericDAO<T, E>, R> operation) {
+		return read(primary, replica, operation);
+	}
+}
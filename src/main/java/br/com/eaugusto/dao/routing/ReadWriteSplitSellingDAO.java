@@ -0,0 +1,69 @@
+package br.com.eaugusto.dao.routing;
+
+import br.com.eaugusto.dao.IJPASellingDAO;
+import br.com.eaugusto.dao.JPASellingDAO;
+import br.com.eaugusto.domain.JPASelling;
+
+/**
+ * Sale DAO that finalizes and cancels sales on the primary database and loads
+ * them, including {@link #findWithCollections(Long)}, from the read replica.
+ *
+ * @see ReadWriteSplitDAO
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ReadWriteSplitSellingDAO extends ReadWriteSplitDAO<JPASelling, Long> implements IJPASellingDAO {
+
+	private static final String PRIMARY_UNIT = "JPA_Multi_Database_Testing";
+
+	private static final String REPLICA_UNIT = "Online_Selling_2";
+
+	private final IJPASellingDAO primary;
+
+	private final IJPASellingDAO replica;
+
+	/**
+	 * Creates a DAO with DB1 as primary and DB2 as replica.
+	 */
+	public ReadWriteSplitSellingDAO() {
+		this(new ReplicaRouter(REPLICA_UNIT));
+	}
+
+	/**
+	 * Creates a DAO with DB1 as primary and DB2 as replica, sharing the given
+	 * router with other DAOs.
+	 *
+	 * @param router the router of the DB2 replica
+	 */
+	public ReadWriteSplitSellingDAO(ReplicaRouter router) {
+		this(new JPASellingDAO(PRIMARY_UNIT), new JPASellingDAO(REPLICA_UNIT), router);
+	}
+
+	public ReadWriteSplitSellingDAO(IJPASellingDAO primary, IJPASellingDAO replica, ReplicaRouter router) {
+		super(primary, replica, router);
+		this.primary = primary;
+		this.replica = replica;
+	}
+
+	@Override
+	public void finalizeSale(JPASelling sale) {
+		write(primary, dao -> {
+			dao.finalizeSale(sale);
+			return null;
+		});
+	}
+
+	@Override
+	public void cancelSale(JPASelling sale) {
+		write(primary, dao -> {
+			dao.cancelSale(sale);
+			return null;
+		});
+	}
+
+	@Override
+	public JPASelling findWithCollections(Long id) {
+		return readSingle(primary, replica, dao -> dao.findWithCollections(id));
+	}
+}
@@ -0,0 +1,168 @@
+package br.com.eaugusto.dao.routing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+import br.com.eaugusto.persistence.cache.EntityCacheRegistry;
+
+/**
+ * Decides whether a read may be served by a PostgreSQL read replica.
+ * <p>
+ * A read goes to the primary instead when:
+ * <ul>
+ * <li>the current thread wrote through a DAO sharing this router within the
+ * read-your-writes window, so it always sees its own changes;</li>
+ * <li>the replica's replication lag exceeds the configured maximum, as probed
+ * at most once per check interval;</li>
+ * <li>a replica read failed within the retry period.</li>
+ * </ul>
+ * Share one router between the DAOs of a workflow so that a write through any
+ * of them pins the thread's following reads to the primary.
+ * <p>
+ * The defaults come from the <code>br.com.eaugusto.replica.*</code> properties
+ * of the replica unit. A replica unit that is not in recovery, such as a
+ * standalone database used as stand-in, reports no lag. Replicated rows change
+ * without going through the replica's DAOs, so creating a router turns entity
+ * caching off on the replica unit; otherwise a row cached before a primary
+ * write would be served stale until its time to live ran out.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ReplicaRouter {
+
+	public static final String MAX_LAG = "br.com.eaugusto.replica.max_lag_ms";
+
+	public static final String READ_YOUR_WRITES = "br.com.eaugusto.replica.read_your_writes_ms";
+
+	public static final String LAG_CHECK_INTERVAL = "br.com.eaugusto.replica.lag_check_interval_ms";
+
+	public static final String RETRY_AFTER = "br.com.eaugusto.replica.retry_after_ms";
+
+	private static final Logger LOGGER = Logger.getLogger(ReplicaRouter.class.getName());
+
+	private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+			+ " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+			+ " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+	private final String replicaUnitName;
+
+	private final long maxLagMillis;
+
+	private final long readYourWritesNanos;
+
+	private final long lagCheckIntervalNanos;
+
+	private final long retryAfterNanos;
+
+	private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+
+	private final AtomicBoolean probing = new AtomicBoolean();
+
+	private volatile long lagCheckedAt;
+
+	private volatile boolean lagging;
+
+	private volatile long unavailableUntil;
+
+	public ReplicaRouter(String replicaUnitName) {
+		this(replicaUnitName,
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(replicaUnitName, MAX_LAG, 1000)),
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(replicaUnitName, READ_YOUR_WRITES, 2000)),
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(replicaUnitName, LAG_CHECK_INTERVAL, 1000)),
+				Duration.ofMillis(EntityManagerFactoryRegistry.getIntProperty(replicaUnitName, RETRY_AFTER, 5000)));
+	}
+
+	public ReplicaRouter(String replicaUnitName, Duration maxLag, Duration readYourWritesWindow,
+			Duration lagCheckInterval, Duration retryAfter) {
+		if (replicaUnitName == null) {
+			throw new DAOParameterException("Replica persistence unit name cannot be null.");
+		}
+		if (maxLag == null || readYourWritesWindow == null || lagCheckInterval == null || retryAfter == null) {
+			throw new DAOParameterException("Replica routing durations cannot be null.");
+		}
+		this.replicaUnitName = replicaUnitName;
+		this.maxLagMillis = maxLag.toMillis();
+		this.readYourWritesNanos = readYourWritesWindow.toNanos();
+		this.lagCheckIntervalNanos = lagCheckInterval.toNanos();
+		this.retryAfterNanos = retryAfter.toNanos();
+		this.lagCheckedAt = System.nanoTime() - lagCheckIntervalNanos;
+		EntityCacheRegistry.disable(replicaUnitName);
+	}
+
+	/**
+	 * @return true if the current thread's next read may use the replica
+	 */
+	public boolean useReplica() {
+		long now = System.nanoTime();
+		Long writtenAt = lastWrite.get();
+		if (writtenAt != null) {
+			if (now - writtenAt < readYourWritesNanos) {
+				return false;
+			}
+			lastWrite.remove();
+		}
+		if (now - unavailableUntil < 0) {
+			return false;
+		}
+		return !isLagging(now);
+	}
+
+	/**
+	 * Records that the current thread wrote to the primary, starting its
+	 * read-your-writes window.
+	 */
+	public void recordWrite() {
+		lastWrite.set(System.nanoTime());
+	}
+
+	/**
+	 * Stops routing reads to the replica for the retry period.
+	 *
+	 * @param cause the failure of the replica read
+	 */
+	public void markUnavailable(Throwable cause) {
+		unavailableUntil = System.nanoTime() + retryAfterNanos;
+		LOGGER.log(Level.WARNING, "Replica " + replicaUnitName + " failed, reading from the primary for "
+				+ retryAfterNanos / 1_000_000 + " ms.", cause);
+	}
+
+	public String getReplicaUnitName() {
+		return replicaUnitName;
+	}
+
+	/**
+	 * Returns the last known lag state, refreshing it when the check interval
+	 * has passed. Only one thread probes at a time; the others use the previous
+	 * result.
+	 */
+	private boolean isLagging(long now) {
+		if (now - lagCheckedAt >= lagCheckIntervalNanos && probing.compareAndSet(false, true)) {
+			try {
+				lagging = probeLagMillis() > maxLagMillis;
+			} catch (RuntimeException e) {
+				markUnavailable(e);
+			} finally {
+				lagCheckedAt = System.nanoTime();
+				probing.set(false);
+			}
+		}
+		return lagging;
+	}
+
+	private double probeLagMillis() {
+		EntityManager entityManager = EntityManagerFactoryRegistry.createEntityManager(replicaUnitName);
+		try {
+			Object lag = entityManager.createNativeQuery(LAG_QUERY).getSingleResult();
+			return lag == null ? 0 : ((Number) lag).doubleValue();
+		} finally {
+			entityManager.close();
+		}
+	}
+}
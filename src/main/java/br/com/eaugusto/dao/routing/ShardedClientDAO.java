@@ -0,0 +1,560 @@
+package br.com.eaugusto.dao.routing;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import br.com.eaugusto.dao.IJPAClientDAO;
+import br.com.eaugusto.dao.JPAClientDAODB1;
+import br.com.eaugusto.dao.JPAClientDAODB2;
+import br.com.eaugusto.dao.JPAClientDAODB3;
+import br.com.eaugusto.dao.generics.BatchResult;
+import br.com.eaugusto.dao.generics.Page;
+import br.com.eaugusto.dao.generics.Projection;
+import br.com.eaugusto.domain.JPAClient;
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+import br.com.eaugusto.persistence.EntityCopier;
+
+/**
+ * Client DAO that spreads clients over several databases, each client living
+ * on exactly one of them.
+ * <p>
+ * The shard of a client is chosen by a CRC32 hash of its CPF, so the same CPF
+ * always lands on the same database. The IDs returned by this DAO encode the
+ * shard: <code>id = localId * shardCount + shardIndex</code>, which lets
+ * <code>findById</code>, <code>update</code> and <code>delete</code> go straight
+ * to the right database without a lookup table. <code>findAll</code> and
+ * <code>findPage</code> query every shard in parallel on virtual threads and
+ * merge the results; batch registrations, bulk deletes and updates run on
+ * every shard the same way.
+ * <p>
+ * The order and number of shards define where existing clients are found, so
+ * they must not change once data has been written.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ShardedClientDAO implements IJPAClientDAO<JPAClient> {
+
+	private static final ExecutorService EXECUTOR = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("sharded-client-reader-", 0).factory());
+
+	private final List<IJPAClientDAO<JPAClient>> shards;
+
+	private final Duration timeout;
+
+	/**
+	 * Creates a DAO sharded over DB1, DB2 and DB3, in this order.
+	 */
+	public ShardedClientDAO() {
+		this(List.of(new JPAClientDAODB1(), new JPAClientDAODB2(), new JPAClientDAODB3()), Duration.ofSeconds(30));
+	}
+
+	public ShardedClientDAO(List<IJPAClientDAO<JPAClient>> shards, Duration timeout) {
+		if (shards == null || shards.isEmpty() || shards.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("At least one shard DAO is required.");
+		}
+		if (timeout == null || timeout.isNegative()) {
+			throw new DAOParameterException("Timeout must be a non-negative duration.");
+		}
+		this.shards = List.copyOf(shards);
+		this.timeout = timeout;
+	}
+
+	@Override
+	public JPAClient register(JPAClient entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null) {
+			throw new DAOParameterException("Cannot register a null entity.");
+		}
+		int shard = shardOf(entity.getCpf());
+		JPAClient copy = EntityCopier.copy(entity);
+		copy.setId(null);
+		shards.get(shard).register(copy);
+		entity.setId(toGlobalId(copy.getId(), shard));
+		return entity;
+	}
+
+	/**
+	 * Groups the clients by shard and registers each group on its shard in
+	 * parallel, in batches. Registered clients get their global ID; the failed
+	 * chunks of every shard are returned, in shard order, with the caller's
+	 * clients, and a shard that cannot be reached fails all of its clients.
+	 */
+	@Override
+	public BatchResult<JPAClient> registerAll(Collection<JPAClient> entities)
+			throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null || entities.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot register a null collection or null entities.");
+		}
+
+		List<List<JPAClient>> originals = new ArrayList<>(shards.size());
+		List<List<JPAClient>> copies = new ArrayList<>(shards.size());
+		for (int shard = 0; shard < shards.size(); shard++) {
+			originals.add(new ArrayList<>());
+			copies.add(new ArrayList<>());
+		}
+		Map<JPAClient, JPAClient> originalOf = new IdentityHashMap<>();
+		for (JPAClient entity : entities) {
+			int shard = shardOf(entity.getCpf());
+			JPAClient copy = EntityCopier.copy(entity);
+			copy.setId(null);
+			originals.get(shard).add(entity);
+			copies.get(shard).add(copy);
+			originalOf.put(copy, entity);
+		}
+
+		List<BatchResult<JPAClient>> results = scatter(shard -> {
+			if (copies.get(shard).isEmpty()) {
+				return BatchResult.of(0, List.of(), null);
+			}
+			try {
+				return shards.get(shard).registerAll(copies.get(shard));
+			} catch (RuntimeException e) {
+				return BatchResult.of(0, copies.get(shard), e);
+			}
+		});
+		for (int shard = 0; shard < shards.size(); shard++) {
+			for (int index = 0; index < copies.get(shard).size(); index++) {
+				originals.get(shard).get(index).setId(toGlobalId(copies.get(shard).get(index).getId(), shard));
+			}
+		}
+		return BatchResult.merge(results).map(originalOf::get);
+	}
+
+	/**
+	 * Collects the stream before registering, since its clients are grouped by
+	 * shard.
+	 *
+	 * @see #registerAll(Collection)
+	 */
+	@Override
+	public BatchResult<JPAClient> registerAll(Stream<JPAClient> entities)
+			throws DAOParameterException, DatabaseConnectionException {
+		if (entities == null) {
+			throw new DAOParameterException("Cannot register a null stream.");
+		}
+
+		return registerAll(entities.collect(Collectors.toList()));
+	}
+
+	@Override
+	public void delete(JPAClient entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null || entity.getId() == null) {
+			throw new DAOParameterException("Cannot delete a null entity or one without ID.");
+		}
+		int shard = shardOfId(entity.getId());
+		shards.get(shard).delete(toLocal(entity));
+	}
+
+	/**
+	 * Updates the client on its shard. Changing the CPF to one that hashes to
+	 * another shard is rejected, since it would also change the client's ID.
+	 */
+	@Override
+	public JPAClient update(JPAClient entity) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (entity == null || entity.getId() == null) {
+			throw new DAOParameterException("Cannot update a null entity or one without ID.");
+		}
+		int shard = shardOfId(entity.getId());
+		if (shard != shardOf(entity.getCpf())) {
+			throw new DAOParameterException("The new CPF belongs to another shard; delete and register the client instead.");
+		}
+		return toGlobal(shards.get(shard).update(toLocal(entity)), shard);
+	}
+
+	@Override
+	public int deleteAll() throws DAOException, DatabaseConnectionException {
+		return sum(scatter(shard -> shards.get(shard).deleteAll()));
+	}
+
+	@Override
+	public int deleteByIds(Collection<Long> ids) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot delete a null collection or null IDs.");
+		}
+		List<List<Long>> localIds = new ArrayList<>(shards.size());
+		shards.forEach(shard -> localIds.add(new ArrayList<>()));
+		for (Long id : ids) {
+			localIds.get(shardOfId(id)).add(Math.floorDiv(id, shards.size()));
+		}
+		return sum(scatter(shard -> localIds.get(shard).isEmpty() ? 0 : shards.get(shard).deleteByIds(localIds.get(shard))));
+	}
+
+	@Override
+	public int deleteWhere(Map<String, ?> criteria) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return sum(scatter(shard -> shards.get(shard).deleteWhere(criteria)));
+	}
+
+	/**
+	 * Runs the update on every shard. Assigning the CPF is rejected, since it
+	 * decides the shard of each client.
+	 */
+	@Override
+	public int updateWhere(Map<String, ?> criteria, Map<String, ?> assignments)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (assignments != null && assignments.containsKey("cpf")) {
+			throw new DAOParameterException("The CPF decides the shard and cannot be bulk updated.");
+		}
+		return sum(scatter(shard -> shards.get(shard).updateWhere(criteria, assignments)));
+	}
+
+	@Override
+	public JPAClient findById(Long id) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return findById(id, null);
+	}
+
+	@Override
+	public JPAClient findById(Long id, String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (id == null) {
+			throw new DAOParameterException("ID cannot be null.");
+		}
+		int shard = shardOfId(id);
+		return toGlobal(shards.get(shard).findById(Math.floorDiv(id, shards.size()), fetchPlan), shard);
+	}
+
+	/**
+	 * Looks the CPF up on its own shard only.
+	 */
+	@Override
+	public JPAClient findByNaturalId(Object naturalId)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (naturalId == null) {
+			throw new DAOParameterException("Natural ID cannot be null.");
+		}
+		int shard = shardOf(naturalId.toString());
+		return toGlobal(shards.get(shard).findByNaturalId(naturalId), shard);
+	}
+
+	/**
+	 * Groups the CPFs by shard and looks each group up on its shard in parallel.
+	 */
+	@Override
+	public List<JPAClient> findByNaturalIds(Collection<?> naturalIds)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (naturalIds == null || naturalIds.stream().anyMatch(Objects::isNull)) {
+			throw new DAOParameterException("Cannot search a null collection or null natural IDs.");
+		}
+
+		List<List<Object>> keysByShard = new ArrayList<>(shards.size());
+		for (int shard = 0; shard < shards.size(); shard++) {
+			keysByShard.add(new ArrayList<>());
+		}
+		Set<Object> keys = new LinkedHashSet<>(naturalIds);
+		keys.forEach(key -> keysByShard.get(shardOf(key.toString())).add(key));
+
+		List<List<JPAClient>> found = scatter(shard -> {
+			List<JPAClient> clients = keysByShard.get(shard).isEmpty() ? List.of()
+					: shards.get(shard).findByNaturalIds(keysByShard.get(shard));
+			clients.forEach(client -> toGlobal(client, shard));
+			return clients;
+		});
+		Map<String, JPAClient> byCpf = new HashMap<>();
+		found.forEach(clients -> clients.forEach(client -> byCpf.put(client.getCpf(), client)));
+
+		List<JPAClient> result = new ArrayList<>(byCpf.size());
+		keys.stream().map(byCpf::get).filter(Objects::nonNull).forEach(result::add);
+		return result;
+	}
+
+	@Override
+	public Collection<JPAClient> findAll() throws DAOException, DatabaseConnectionException {
+		return findAll(null);
+	}
+
+	@Override
+	public Collection<JPAClient> findAll(String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		List<Collection<JPAClient>> results = scatter(shard -> shards.get(shard).findAll(fetchPlan));
+		List<JPAClient> merged = new ArrayList<>();
+		for (int shard = 0; shard < results.size(); shard++) {
+			for (JPAClient client : results.get(shard)) {
+				merged.add(toGlobal(client, shard));
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Fetches the next page of clients ordered by their sharded ID. Every shard
+	 * is asked for up to <code>limit</code> clients after the matching local ID,
+	 * and the merged result is cut to <code>limit</code>.
+	 */
+	@Override
+	public Page<JPAClient> findPage(Long afterId, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return findPage(afterId, limit, null);
+	}
+
+	@Override
+	public Page<JPAClient> findPage(Long afterId, int limit, String fetchPlan)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (limit < 1) {
+			throw new DAOParameterException("Page limit must be positive.");
+		}
+		List<Page<JPAClient>> pages = scatter(shard -> shards.get(shard)
+				.findPage(afterId == null ? null : Math.floorDiv(afterId - shard, shards.size()), limit, fetchPlan));
+
+		List<JPAClient> merged = new ArrayList<>();
+		boolean shardHasNext = false;
+		for (int shard = 0; shard < pages.size(); shard++) {
+			shardHasNext |= pages.get(shard).hasNext();
+			for (JPAClient client : pages.get(shard).getItems()) {
+				merged.add(toGlobal(client, shard));
+			}
+		}
+		merged.sort(Comparator.comparing(JPAClient::getId));
+		boolean hasNext = shardHasNext || merged.size() > limit;
+		return Page.ofIds(merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged, hasNext);
+	}
+
+	/**
+	 * Fetches the next page of clients ordered by the attribute, then by their
+	 * sharded ID. The cursor's ID is translated for every shard, each shard
+	 * returns up to <code>limit</code> clients after it, and the merged result is
+	 * cut to <code>limit</code>. Shards are merged by the natural order of the
+	 * attribute's values, which matches the databases' own for numbers and dates,
+	 * and for strings under a binary collation.
+	 */
+	@Override
+	public Page<JPAClient> findPage(String sortAttribute, String cursor, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (sortAttribute == null) {
+			throw new DAOParameterException("Sort attribute cannot be null.");
+		}
+		if (limit < 1) {
+			throw new DAOParameterException("Page limit must be positive.");
+		}
+		Field field = sortField(sortAttribute);
+		List<Page<JPAClient>> pages = scatter(shard -> shards.get(shard).findPage(sortAttribute,
+				cursor == null ? null : Page.mapCursorId(cursor, id -> Math.floorDiv(id - shard, shards.size())), limit));
+
+		List<JPAClient> merged = new ArrayList<>();
+		boolean shardHasNext = false;
+		for (int shard = 0; shard < pages.size(); shard++) {
+			shardHasNext |= pages.get(shard).hasNext();
+			for (JPAClient client : pages.get(shard).getItems()) {
+				merged.add(toGlobal(client, shard));
+			}
+		}
+		Comparator<JPAClient> bySortValue = Comparator.comparing(client -> sortValueOf(client, field));
+		merged.sort(bySortValue.thenComparing(JPAClient::getId));
+		boolean hasNext = shardHasNext || merged.size() > limit;
+		List<JPAClient> items = merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+		return Page.ofSortKey(items, hasNext, items.isEmpty() ? null : sortValueOf(items.get(items.size() - 1), field));
+	}
+
+	/**
+	 * Streams the clients of each shard in turn. A shard's cursor is opened only
+	 * when the previous shard is exhausted, and closed right after.
+	 */
+	@Override
+	public Stream<JPAClient> streamAll() throws DAOException, DatabaseConnectionException {
+		return IntStream.range(0, shards.size()).boxed()
+				.flatMap(shard -> shards.get(shard).streamAll().map(client -> toGlobal(client, shard)));
+	}
+
+	@Override
+	public void forEach(Consumer<JPAClient> action) throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (action == null) {
+			throw new DAOParameterException("Action cannot be null.");
+		}
+		try (Stream<JPAClient> clients = streamAll()) {
+			clients.forEach(action);
+		}
+	}
+
+	/**
+	 * Queries every shard in parallel and merges the projections in shard order.
+	 * An <code>id</code> attribute is rewritten into the global ID.
+	 */
+	@Override
+	public <P> List<P> findAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		List<List<P>> results = scatter(shard -> shards.get(shard).findAllAs(projection));
+		List<P> merged = new ArrayList<>();
+		for (int shard = 0; shard < results.size(); shard++) {
+			for (P item : results.get(shard)) {
+				merged.add(toGlobalProjection(item, shard));
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Fetches the next page of projections ordered by their sharded ID, like
+	 * {@link #findPage(Long, int)}. The projection needs an <code>id</code>
+	 * attribute to merge the shards by it.
+	 *
+	 * @throws DAOParameterException if the projection has no <code>id</code>
+	 *                               attribute
+	 */
+	@Override
+	public <P> Page<P> findPageAs(Class<P> projection, Long afterId, int limit)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		if (!Projection.hasId(projection)) {
+			throw new DAOParameterException("Projection " + projection.getSimpleName()
+					+ " needs an id attribute to be paged across shards.");
+		}
+		if (limit < 1) {
+			throw new DAOParameterException("Page limit must be positive.");
+		}
+		List<Page<P>> pages = scatter(shard -> shards.get(shard).findPageAs(projection,
+				afterId == null ? null : Math.floorDiv(afterId - shard, shards.size()), limit));
+
+		List<P> merged = new ArrayList<>();
+		boolean shardHasNext = false;
+		for (int shard = 0; shard < pages.size(); shard++) {
+			shardHasNext |= pages.get(shard).hasNext();
+			for (P item : pages.get(shard).getItems()) {
+				merged.add(toGlobalProjection(item, shard));
+			}
+		}
+		merged.sort(Comparator.comparing(Projection::idOf));
+		boolean hasNext = shardHasNext || merged.size() > limit;
+		List<P> items = merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+		return Page.ofIds(items, items.isEmpty() ? null : Projection.idOf(items.get(items.size() - 1)), hasNext);
+	}
+
+	/**
+	 * Streams the projections of each shard in turn, like {@link #streamAll()}.
+	 */
+	@Override
+	public <P> Stream<P> streamAllAs(Class<P> projection)
+			throws DAOException, DAOParameterException, DatabaseConnectionException {
+		return IntStream.range(0, shards.size()).boxed()
+				.flatMap(shard -> shards.get(shard).streamAllAs(projection).map(item -> toGlobalProjection(item, shard)));
+	}
+
+	/**
+	 * Returns the index of the shard that owns the given CPF.
+	 *
+	 * @param cpf the client's CPF
+	 * @return the shard index
+	 * @throws DAOParameterException if the CPF is null
+	 */
+	public int shardOf(String cpf) throws DAOParameterException {
+		if (cpf == null) {
+			throw new DAOParameterException("Client CPF is required to choose a shard.");
+		}
+		CRC32 crc = new CRC32();
+		crc.update(cpf.trim().getBytes(StandardCharsets.UTF_8));
+		return (int) (crc.getValue() % shards.size());
+	}
+
+	public int getShardCount() {
+		return shards.size();
+	}
+
+	private static Field sortField(String attribute) throws DAOParameterException {
+		try {
+			Field field = JPAClient.class.getDeclaredField(attribute);
+			if (!Comparable.class.isAssignableFrom(field.getType()) && !field.getType().isPrimitive()) {
+				throw new DAOParameterException("Sort attribute " + attribute + " is not comparable.");
+			}
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new DAOParameterException("Unknown sort attribute: " + attribute, e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Comparable<Object> sortValueOf(JPAClient client, Field field) throws DAOException {
+		try {
+			return (Comparable<Object>) field.get(client);
+		} catch (IllegalAccessException e) {
+			throw new DAOException("Cannot read attribute " + field.getName() + ".", e);
+		}
+	}
+
+	private int shardOfId(Long id) {
+		return Math.floorMod(id, shards.size());
+	}
+
+	private Long toGlobalId(Long localId, int shard) {
+		return localId == null ? null : localId * shards.size() + shard;
+	}
+
+	private JPAClient toGlobal(JPAClient client, int shard) {
+		if (client != null) {
+			client.setId(toGlobalId(client.getId(), shard));
+		}
+		return client;
+	}
+
+	private <P> P toGlobalProjection(P projection, int shard) {
+		return Projection.withId(projection, id -> toGlobalId(id, shard));
+	}
+
+	private JPAClient toLocal(JPAClient client) {
+		JPAClient copy = EntityCopier.copy(client);
+		copy.setId(Math.floorDiv(client.getId(), shards.size()));
+		return copy;
+	}
+
+	private int sum(List<Integer> counts) {
+		return counts.stream().mapToInt(Integer::intValue).sum();
+	}
+
+	/**
+	 * Runs the query on every shard concurrently and returns the results in shard
+	 * order. Fails if any shard fails or does not answer within the timeout.
+	 */
+	private <R> List<R> scatter(ShardQuery<R> query) throws DAOException {
+		List<Future<R>> futures = new ArrayList<>(shards.size());
+		for (int index = 0; index < shards.size(); index++) {
+			int shard = index;
+			futures.add(EXECUTOR.submit(() -> query.apply(shard)));
+		}
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		List<R> results = new ArrayList<>(shards.size());
+		try {
+			for (int shard = 0; shard < futures.size(); shard++) {
+				try {
+					results.add(futures.get(shard).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+				} catch (ExecutionException e) {
+					throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+							: new DAOException("Query failed on shard " + shard + ".", e.getCause());
+				} catch (TimeoutException e) {
+					throw new DAOException("Shard " + shard + " did not answer within " + timeout.toMillis() + " ms.", e);
+				}
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DAOException("Interrupted while querying shards.", e);
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	@FunctionalInterface
+	private interface ShardQuery<R> {
+		R apply(int shard) throws Exception;
+	}
+}
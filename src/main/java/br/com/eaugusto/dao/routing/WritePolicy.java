@@ -0,0 +1,31 @@
+package br.com.eaugusto.dao.routing;
+
+/**
+ * Decides when a write applied to several databases counts as successful.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public enum WritePolicy {
+
+	/**
+	 * Every target must succeed.
+	 */
+	ALL,
+
+	/**
+	 * A strict majority of the targets must succeed.
+	 */
+	QUORUM;
+
+	/**
+	 * Checks whether the number of successful targets satisfies the policy.
+	 *
+	 * @param succeeded the number of targets that succeeded
+	 * @param total     the number of targets
+	 * @return true if the write is accepted
+	 */
+	public boolean isSatisfied(int succeeded, int total) {
+		return this == ALL ? succeeded == total : succeeded > total / 2;
+	}
+}
@@ -1,13 +1,18 @@
 package br.com.eaugusto.domain;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.Parameter;
+
 /**
  * Represents a client entity in the system.
  * 
@@ -23,17 +28,23 @@ import javax.persistence.Table;
  * @since July 21, 2025
  */
 @Entity
+@Cacheable
+@BatchSize(size = 50)
 @Table(name = "tb_client")
 public class JPAClient implements IPersistable {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
-	@SequenceGenerator(name = "client_seq", sequenceName = "sq_client", initialValue = 1, allocationSize = 1)
+	@GenericGenerator(name = "client_seq", strategy = "br.com.eaugusto.persistence.id.ConfigurableSequenceGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "sq_client"),
+		@Parameter(name = "initial_value", value = "1")
+	})
 	private Long id;
 
 	@Column(name = "name", nullable = false, length = 50)
 	private String name;
 
+	@NaturalId(mutable = true)
 	@Column(name = "cpf", nullable = false, unique = true)
 	private String cpf;
 
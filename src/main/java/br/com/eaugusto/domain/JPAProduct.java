@@ -1,14 +1,19 @@
 package br.com.eaugusto.domain;
 
 import java.math.BigDecimal;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.Parameter;
+
 /**
  * Represents a product entity available for sale.
  * 
@@ -25,14 +30,20 @@ import javax.persistence.Table;
  * @since July 21, 2025
  */
 @Entity
+@Cacheable
+@BatchSize(size = 50)
 @Table(name = "tb_product")
 public class JPAProduct implements IPersistable {
 	
 	@Id
 	@GeneratedValue(strategy=GenerationType.SEQUENCE, generator="product_seq")
-	@SequenceGenerator(name="product_seq", sequenceName="sq_product", initialValue = 1, allocationSize = 1)
+	@GenericGenerator(name = "product_seq", strategy = "br.com.eaugusto.persistence.id.ConfigurableSequenceGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "sq_product"),
+		@Parameter(name = "initial_value", value = "1")
+	})
 	private Long id;
 
+	@NaturalId(mutable = true)
 	@Column(name = "code", nullable = false, length = 10, unique = true)
 	private String code;
 	
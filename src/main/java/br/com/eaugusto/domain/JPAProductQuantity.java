@@ -3,6 +3,9 @@ package br.com.eaugusto.domain;
 import java.math.BigDecimal;
 import javax.persistence.*;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 /**
  * Represents the relationship between a product and a selling transaction.
  * 
@@ -24,10 +27,13 @@ public class JPAProductQuantity {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_quantity_seq")
-	@SequenceGenerator(name = "product_quantity_seq", sequenceName = "sq_product_quantity", initialValue = 1, allocationSize = 1)
+	@GenericGenerator(name = "product_quantity_seq", strategy = "br.com.eaugusto.persistence.id.ConfigurableSequenceGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "sq_product_quantity"),
+		@Parameter(name = "initial_value", value = "1")
+	})
 	private Long id;
 
-	@ManyToOne(cascade = CascadeType.ALL)
+	@ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private JPAProduct product;
 
 	@Column(name = "quantity", nullable = false)
@@ -36,7 +42,7 @@ public class JPAProductQuantity {
 	@Column(name = "total_price", nullable = false)
 	private BigDecimal totalPrice;
 
-	@ManyToOne(cascade = CascadeType.ALL)
+	@ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@JoinColumn(
 		name = "id_selling_fk",
 		foreignKey = @ForeignKey(name = "fk_product_quantity_selling"),
@@ -7,6 +7,11 @@ import java.util.Optional;
 import java.util.Set;
 import javax.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.Parameter;
+
 /**
  * Represents a selling transaction in the system.
  * 
@@ -16,6 +21,11 @@ import javax.persistence.*;
  * 
  * Provides logic for adding, removing, and recalculating product totals within a sale.
  * 
+ * The client and products are loaded lazily; callers that need them pick one of
+ * the named fetch plans ({@link #GRAPH_HEADER_ONLY}, {@link #GRAPH_WITH_CLIENT},
+ * {@link #GRAPH_FULL}) when loading. Products of several sales are otherwise
+ * initialized together in batches.
+ * 
  * @see IPersistable
  * @see JPAClient
  * @see JPAProductQuantity
@@ -28,8 +38,22 @@ import javax.persistence.*;
  */
 @Entity
 @Table(name = "tb_selling")
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = JPASelling.GRAPH_HEADER_ONLY),
+	@NamedEntityGraph(name = JPASelling.GRAPH_WITH_CLIENT, attributeNodes = @NamedAttributeNode("client")),
+	@NamedEntityGraph(name = JPASelling.GRAPH_FULL, attributeNodes = {
+		@NamedAttributeNode("client"),
+		@NamedAttributeNode(value = "products", subgraph = "products")
+	}, subgraphs = @NamedSubgraph(name = "products", attributeNodes = @NamedAttributeNode("product")))
+})
 public class JPASelling implements IPersistable {
 
+	public static final String GRAPH_HEADER_ONLY = "JPASelling.headerOnly";
+
+	public static final String GRAPH_WITH_CLIENT = "JPASelling.withClient";
+
+	public static final String GRAPH_FULL = "JPASelling.full";
+
 	public enum Status {
 		STARTED, FINISHED, CANCELLED;
 
@@ -45,13 +69,17 @@ public class JPASelling implements IPersistable {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "selling_seq")
-	@SequenceGenerator(name = "selling_seq", sequenceName = "seq_selling", initialValue = 1, allocationSize = 1)
+	@GenericGenerator(name = "selling_seq", strategy = "br.com.eaugusto.persistence.id.ConfigurableSequenceGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "seq_selling"),
+		@Parameter(name = "initial_value", value = "1")
+	})
 	private Long id;
 
+	@NaturalId(mutable = true)
 	@Column(name = "code", nullable = false, unique = true)
 	private String code;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(
 		name = "id_client_fk",
 		foreignKey = @ForeignKey(name = "fk_selling_client"),
@@ -60,7 +88,8 @@ public class JPASelling implements IPersistable {
 	)
 	private JPAClient client;
 
-	@OneToMany(mappedBy = "selling", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "selling", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+	@BatchSize(size = 50)
 	private Set<JPAProductQuantity> products;
 
 	@Column(name = "total_price", nullable = false)
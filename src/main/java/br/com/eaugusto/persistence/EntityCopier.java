@@ -0,0 +1,57 @@
+package br.com.eaugusto.persistence;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import br.com.eaugusto.exceptions.EntityMappingException;
+
+/**
+ * Creates shallow copies of entities.
+ * <p>
+ * Every instance field, including inherited ones, is copied by reference into
+ * a new instance built with the no-argument constructor that JPA already
+ * requires. Used wherever one logical entity must be handed to several
+ * persistence contexts, or kept apart from instances owned by callers.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityCopier {
+
+	private EntityCopier() {
+	}
+
+	/**
+	 * Copies all instance fields of the entity into a new instance of the same
+	 * class.
+	 *
+	 * @param <T>    the type of entity
+	 * @param entity the entity to copy
+	 * @return the copy, or null if the entity is null
+	 * @throws EntityMappingException if the class cannot be instantiated or read
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(T entity) throws EntityMappingException {
+		if (entity == null) {
+			return null;
+		}
+		Class<T> type = (Class<T>) entity.getClass();
+		try {
+			Constructor<T> constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			T copy = constructor.newInstance();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						field.setAccessible(true);
+						field.set(copy, field.get(entity));
+					}
+				}
+			}
+			return copy;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new EntityMappingException("Cannot copy entity of type " + type.getName() + ".", e);
+		}
+	}
+}
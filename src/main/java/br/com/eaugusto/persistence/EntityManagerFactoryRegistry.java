@@ -0,0 +1,196 @@
+package br.com.eaugusto.persistence;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+
+/**
+ * Process-wide registry of {@link EntityManagerFactory} instances.
+ * <p>
+ * Bootstrapping a persistence unit (metamodel build, schema update, connection
+ * setup) is expensive, so each unit declared in <code>persistence.xml</code> is
+ * built only once, the first time it is requested, and then shared by every DAO
+ * that targets it. DAOs should only draw short-lived {@link EntityManager}
+ * instances from the registry and never close the factories themselves.
+ * <p>
+ * All factories are closed by a JVM shutdown hook, and can also be closed
+ * explicitly through {@link #shutdown(String)} and {@link #shutdownAll()}.
+ * Components that still have work to write, such as buffered registrations,
+ * register a shutdown action to finish it while the factories are open.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityManagerFactoryRegistry {
+
+	private static final Logger LOGGER = Logger.getLogger(EntityManagerFactoryRegistry.class.getName());
+
+	private static final Map<String, FactoryHolder> FACTORIES = new ConcurrentHashMap<>();
+
+	private static final Set<Runnable> SHUTDOWN_ACTIONS = new CopyOnWriteArraySet<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(EntityManagerFactoryRegistry::shutdownAll, "entity-manager-factory-shutdown"));
+	}
+
+	private EntityManagerFactoryRegistry() {
+	}
+
+	/**
+	 * Returns the factory for the given persistence unit, building it on first
+	 * use. Concurrent callers asking for the same unit wait for a single bootstrap.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the shared, open factory for the unit
+	 * @throws DatabaseConnectionException if the factory cannot be created
+	 */
+	public static EntityManagerFactory getEntityManagerFactory(String persistenceUnitName)
+			throws DatabaseConnectionException {
+		return FACTORIES.computeIfAbsent(persistenceUnitName, FactoryHolder::new).get();
+	}
+
+	/**
+	 * Creates a new {@link EntityManager} from the shared factory of the unit. The
+	 * caller owns the returned instance and must close it.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @return a new entity manager
+	 * @throws DatabaseConnectionException if the factory cannot be created
+	 */
+	public static EntityManager createEntityManager(String persistenceUnitName) throws DatabaseConnectionException {
+		return getEntityManagerFactory(persistenceUnitName).createEntityManager();
+	}
+
+	/**
+	 * Reads an integer setting declared in the properties of the unit.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @param key                 the property name
+	 * @param defaultValue        the value used when the property is missing or
+	 *                            invalid
+	 * @return the configured value, or the default
+	 * @throws DatabaseConnectionException if the factory cannot be created
+	 */
+	public static int getIntProperty(String persistenceUnitName, String key, int defaultValue)
+			throws DatabaseConnectionException {
+		Object value = getEntityManagerFactory(persistenceUnitName).getProperties().get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value.toString().trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Checks whether the factory of the unit has already been built.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @return true if an open factory exists for the unit
+	 */
+	public static boolean isInitialized(String persistenceUnitName) {
+		FactoryHolder holder = FACTORIES.get(persistenceUnitName);
+		return holder != null && holder.isOpen();
+	}
+
+	/**
+	 * Closes the factory of a single unit. It will be rebuilt on the next request.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 */
+	public static void shutdown(String persistenceUnitName) {
+		FactoryHolder holder = FACTORIES.remove(persistenceUnitName);
+		if (holder != null) {
+			holder.close();
+		}
+	}
+
+	/**
+	 * Runs the shutdown actions, then closes every factory built so far.
+	 */
+	public static void shutdownAll() {
+		for (Runnable action : SHUTDOWN_ACTIONS) {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.WARNING, "Shutdown action failed.", e);
+			}
+		}
+		FACTORIES.keySet().forEach(EntityManagerFactoryRegistry::shutdown);
+	}
+
+	/**
+	 * Registers an action that {@link #shutdownAll()}, and so the JVM shutdown
+	 * hook, runs before closing the factories.
+	 *
+	 * @param action the action to run
+	 */
+	public static void addShutdownAction(Runnable action) {
+		SHUTDOWN_ACTIONS.add(action);
+	}
+
+	/**
+	 * @param action an action registered by {@link #addShutdownAction(Runnable)}
+	 */
+	public static void removeShutdownAction(Runnable action) {
+		SHUTDOWN_ACTIONS.remove(action);
+	}
+
+	/**
+	 * Lazily builds and holds the factory of a single unit, so that bootstrapping
+	 * one unit does not block lookups of the others.
+	 */
+	private static final class FactoryHolder {
+
+		private final String persistenceUnitName;
+
+		private volatile EntityManagerFactory factory;
+
+		private FactoryHolder(String persistenceUnitName) {
+			this.persistenceUnitName = persistenceUnitName;
+		}
+
+		private EntityManagerFactory get() {
+			EntityManagerFactory current = factory;
+			if (current == null) {
+				synchronized (this) {
+					current = factory;
+					if (current == null) {
+						try {
+							current = Persistence.createEntityManagerFactory(persistenceUnitName);
+						} catch (Exception e) {
+							throw new DatabaseConnectionException(
+									"Failed to create EntityManagerFactory for unit " + persistenceUnitName + ".", e);
+						}
+						factory = current;
+					}
+				}
+			}
+			return current;
+		}
+
+		private boolean isOpen() {
+			EntityManagerFactory current = factory;
+			return current != null && current.isOpen();
+		}
+
+		private synchronized void close() {
+			if (factory != null && factory.isOpen()) {
+				factory.close();
+			}
+			factory = null;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package br.com.eaugusto.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+
+/**
+ * One EntityManager and transaction shared by every DAO operation on a
+ * persistence unit within a scope of the current thread.
+ * <p>
+ * While a unit of work is open, DAOs of the same unit join it instead of
+ * opening their own EntityManager: their changes are flushed and committed
+ * together by {@link #commit()}, and entities loaded by one DAO stay managed
+ * for the next. Closing a unit of work that was not committed rolls it back.
+ *
+ * <pre>
+ * try (UnitOfWork work = UnitOfWork.begin("JPA_Multi_Database_Testing")) {
+ *     clientDAO.register(client);
+ *     productDAO.register(product);
+ *     sellingDAO.register(selling);
+ *     work.commit();
+ * }
+ * </pre>
+ *
+ * Beginning a unit of work on a unit that already has one joins the outer one;
+ * only the outermost scope commits. Batch registrations flush each chunk but
+ * commit with the unit of work, and <code>streamAll</code> still reads
+ * committed data through its own connection.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class UnitOfWork implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger(UnitOfWork.class.getName());
+
+	private static final ThreadLocal<Map<String, UnitOfWork>> CURRENT = ThreadLocal.withInitial(HashMap::new);
+
+	private final String persistenceUnitName;
+
+	private final EntityManager entityManager;
+
+	private final UnitOfWork outer;
+
+	private final List<Runnable> afterCompletion;
+
+	private boolean completed;
+
+	private UnitOfWork(String persistenceUnitName, EntityManager entityManager, UnitOfWork outer) {
+		this.persistenceUnitName = persistenceUnitName;
+		this.entityManager = entityManager;
+		this.outer = outer;
+		this.afterCompletion = outer == null ? new ArrayList<>() : outer.afterCompletion;
+	}
+
+	/**
+	 * Opens a unit of work on the persistence unit and binds it to the current
+	 * thread, or joins the one already bound.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the unit of work, to be closed by the caller
+	 * @throws DatabaseConnectionException if the EntityManager cannot be opened
+	 */
+	public static UnitOfWork begin(String persistenceUnitName) throws DatabaseConnectionException {
+		if (persistenceUnitName == null) {
+			throw new DAOParameterException("Persistence unit name cannot be null.");
+		}
+		UnitOfWork current = current(persistenceUnitName);
+		if (current != null) {
+			return new UnitOfWork(persistenceUnitName, current.entityManager, current);
+		}
+
+		EntityManager entityManager = EntityManagerFactoryRegistry.createEntityManager(persistenceUnitName);
+		try {
+			entityManager.getTransaction().begin();
+		} catch (RuntimeException e) {
+			entityManager.close();
+			throw new DatabaseConnectionException("Failed to begin unit of work.", e);
+		}
+		UnitOfWork work = new UnitOfWork(persistenceUnitName, entityManager, null);
+		CURRENT.get().put(persistenceUnitName, work);
+		return work;
+	}
+
+	/**
+	 * Runs the work in a unit of work and commits it, or rolls it back if the work
+	 * throws.
+	 *
+	 * @param <R>                 the type of result
+	 * @param persistenceUnitName the persistence unit name
+	 * @param work                the DAO operations to run
+	 * @return the result of the work
+	 */
+	public static <R> R execute(String persistenceUnitName, Supplier<R> work) {
+		try (UnitOfWork unitOfWork = begin(persistenceUnitName)) {
+			R result = work.get();
+			unitOfWork.commit();
+			return result;
+		}
+	}
+
+	/**
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the unit of work bound to the current thread for the unit, or null
+	 */
+	public static UnitOfWork current(String persistenceUnitName) {
+		return CURRENT.get().get(persistenceUnitName);
+	}
+
+	public EntityManager getEntityManager() {
+		return entityManager;
+	}
+
+	public String getPersistenceUnitName() {
+		return persistenceUnitName;
+	}
+
+	/**
+	 * Registers an action to run once the transaction commits or rolls back, such
+	 * as evicting changed entities from a cache.
+	 *
+	 * @param action the action to run
+	 */
+	public void afterCompletion(Runnable action) {
+		afterCompletion.add(action);
+	}
+
+	/**
+	 * Flushes and commits every change made in the unit of work. Inside a joined
+	 * unit of work, does nothing: the outermost one commits.
+	 *
+	 * @throws DAOException if the commit fails or the transaction was marked for
+	 *                      rollback
+	 */
+	public void commit() throws DAOException {
+		if (outer != null) {
+			return;
+		}
+		checkOpen();
+		EntityTransaction transaction = entityManager.getTransaction();
+		try {
+			if (transaction.getRollbackOnly()) {
+				throw new DAOException("Unit of work was marked for rollback.");
+			}
+			transaction.commit();
+		} catch (DAOException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new DAOException("Error committing unit of work.", e);
+		} finally {
+			complete();
+		}
+	}
+
+	/**
+	 * Discards every change made in the unit of work. Inside a joined unit of
+	 * work, marks the outermost one for rollback.
+	 */
+	public void rollback() {
+		if (outer != null) {
+			entityManager.getTransaction().setRollbackOnly();
+			return;
+		}
+		checkOpen();
+		complete();
+	}
+
+	/**
+	 * Rolls back if the unit of work was not committed, then releases the
+	 * EntityManager and unbinds it from the thread.
+	 */
+	@Override
+	public void close() {
+		if (outer != null || completed) {
+			return;
+		}
+		complete();
+	}
+
+	private void checkOpen() {
+		if (completed) {
+			throw new DAOException("Unit of work is already completed.");
+		}
+	}
+
+	private void complete() {
+		completed = true;
+		try {
+			if (entityManager.getTransaction().isActive()) {
+				entityManager.getTransaction().rollback();
+			}
+			entityManager.close();
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.WARNING, "Failed to close unit of work.", e);
+		} finally {
+			CURRENT.get().remove(persistenceUnitName, this);
+			afterCompletion.forEach(UnitOfWork::runQuietly);
+		}
+	}
+
+	private static void runQuietly(Runnable action) {
+		try {
+			action.run();
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.WARNING, "After-completion action failed.", e);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package br.com.eaugusto.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.eaugusto.persistence.EntityCopier;
+
+/**
+ * Bounded in-process cache of detached entities of one class, keyed by ID.
+ * <p>
+ * Entries are evicted in least-recently-used order once the size limit is
+ * reached and expire after a fixed time to live. The cache holds its own
+ * copies: values are copied with {@link EntityCopier} on the way in and on the
+ * way out, so changes made by callers never leak into it.
+ * <p>
+ * Keys are spread over independently locked segments so concurrent readers
+ * rarely contend. A load racing with an invalidation is not cached: callers
+ * take a {@link #stamp()} before reading the database and pass it to
+ * {@link #put(Object, Object, long)}, which ignores the value if any
+ * invalidation happened in between.
+ *
+ * @param <K> the type of entity ID
+ * @param <V> the type of entity
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class EntityCache<K, V> {
+
+	private static final int SEGMENTS = 16;
+
+	private final String name;
+
+	private final int maxEntries;
+
+	private final long ttlNanos;
+
+	private final List<Segment> segments;
+
+	private final AtomicLong invalidationStamp = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final LongAdder expirations = new LongAdder();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	public EntityCache(String name, int maxEntries, long ttlMillis) {
+		this.name = name;
+		this.maxEntries = Math.max(1, maxEntries);
+		this.ttlNanos = ttlMillis * 1_000_000L;
+		int segmentCount = Math.min(SEGMENTS, this.maxEntries);
+		this.segments = new ArrayList<>(segmentCount);
+		for (int index = 0; index < segmentCount; index++) {
+			int capacity = this.maxEntries / segmentCount + (index < this.maxEntries % segmentCount ? 1 : 0);
+			segments.add(new Segment(capacity));
+		}
+	}
+
+	/**
+	 * Returns a copy of the cached entity, or null if it is absent or expired.
+	 *
+	 * @param key the entity ID
+	 * @return a copy of the entity, or null
+	 */
+	public V get(K key) {
+		Segment segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			Entry<V> entry = segment.entries.get(key);
+			if (entry != null && System.nanoTime() - entry.expiresAt >= 0) {
+				segment.entries.remove(key);
+				expirations.increment();
+				entry = null;
+			}
+			value = entry == null ? null : entry.value;
+		}
+		(value == null ? misses : hits).increment();
+		return copyOf(value);
+	}
+
+	/**
+	 * @return the current invalidation stamp, to be passed to
+	 *         {@link #put(Object, Object, long)}
+	 */
+	public long stamp() {
+		return invalidationStamp.get();
+	}
+
+	/**
+	 * Caches a copy of the entity unless an invalidation happened since the
+	 * stamp was taken.
+	 *
+	 * @param key   the entity ID
+	 * @param value the entity loaded from the database
+	 * @param stamp the stamp taken before loading it
+	 */
+	public void put(K key, V value, long stamp) {
+		if (key == null || value == null) {
+			return;
+		}
+		V copy = copyOf(value);
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			if (invalidationStamp.get() == stamp) {
+				segment.entries.put(key, new Entry<>(copy, System.nanoTime() + ttlNanos));
+			}
+		}
+	}
+
+	/**
+	 * Removes the entity and prevents loads in progress from caching it.
+	 *
+	 * @param key the entity ID
+	 */
+	public void invalidate(K key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			invalidationStamp.incrementAndGet();
+			if (segment.entries.remove(key) != null) {
+				invalidations.increment();
+			}
+		}
+	}
+
+	/**
+	 * Removes every entity, for changes whose affected IDs are unknown.
+	 */
+	public void invalidateAll() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				invalidationStamp.incrementAndGet();
+				invalidations.add(segment.entries.size());
+				segment.entries.clear();
+			}
+		}
+	}
+
+	/**
+	 * Removes expired entries. Expired entries are also dropped when read, so
+	 * this only frees memory earlier.
+	 */
+	public void purgeExpired() {
+		long now = System.nanoTime();
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				Iterator<Entry<V>> iterator = segment.entries.values().iterator();
+				while (iterator.hasNext()) {
+					if (now - iterator.next().expiresAt >= 0) {
+						iterator.remove();
+						expirations.increment();
+					}
+				}
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public EntityCacheStats getStats() {
+		return new EntityCacheStats(name, size(), maxEntries, hits.sum(), misses.sum(), evictions.sum(),
+				expirations.sum(), invalidations.sum());
+	}
+
+	/**
+	 * Copies a value on its way into or out of the cache, so callers never
+	 * share an instance with it.
+	 *
+	 * @param value the value, possibly null
+	 * @return the copy, or null
+	 */
+	protected V copyOf(V value) {
+		return EntityCopier.copy(value);
+	}
+
+	private Segment segmentFor(K key) {
+		int hash = key.hashCode();
+		return segments.get(Math.floorMod(hash ^ (hash >>> 16), segments.size()));
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long expiresAt;
+
+		private Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Access-ordered map that drops its least recently used entry when full.
+	 */
+	private final class Segment {
+
+		private final Map<K, Entry<V>> entries;
+
+		private Segment(int capacity) {
+			this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package br.com.eaugusto.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.Cacheable;
+
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Holds the {@link EntityCache} of each entity class on each persistence unit,
+ * and the {@link NaturalIdCache} of those with a natural key.
+ * <p>
+ * Only entities annotated with <code>@Cacheable</code> are cached. The size
+ * limit and time to live of a unit's caches come from its
+ * <code>br.com.eaugusto.cache.max_entries</code> and
+ * <code>br.com.eaugusto.cache.ttl_ms</code> properties; a size of zero disables
+ * caching on that unit, and so does {@link #disable(String)}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityCacheRegistry {
+
+	public static final String MAX_ENTRIES = "br.com.eaugusto.cache.max_entries";
+
+	public static final String TTL = "br.com.eaugusto.cache.ttl_ms";
+
+	private static final Map<String, Optional<EntityCache<?, ?>>> CACHES = new ConcurrentHashMap<>();
+
+	private static final Set<String> DISABLED_UNITS = ConcurrentHashMap.newKeySet();
+
+	private EntityCacheRegistry() {
+	}
+
+	/**
+	 * Returns the cache of an entity class on a persistence unit, creating it on
+	 * first use.
+	 *
+	 * @param <K>                 the type of entity ID
+	 * @param <V>                 the type of entity
+	 * @param persistenceUnitName the persistence unit name
+	 * @param entityClass         the entity class
+	 * @return the cache, or null if the entity is not cacheable on the unit
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> EntityCache<K, V> getCache(String persistenceUnitName, Class<V> entityClass) {
+		return (EntityCache<K, V>) CACHES
+				.computeIfAbsent(cacheName(persistenceUnitName, entityClass),
+						name -> create(persistenceUnitName, entityClass, name, false))
+				.orElse(null);
+	}
+
+	/**
+	 * Returns the natural key to ID cache of an entity class on a persistence
+	 * unit, creating it on first use. It follows the same limits as the entity
+	 * cache, since resolving a key to an ID only avoids the database when the
+	 * entity itself is cached.
+	 *
+	 * @param <K>                 the type of natural key
+	 * @param <I>                 the type of entity ID
+	 * @param persistenceUnitName the persistence unit name
+	 * @param entityClass         the entity class
+	 * @return the cache, or null if the entity is not cacheable on the unit
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, I> NaturalIdCache<K, I> getNaturalIdCache(String persistenceUnitName, Class<?> entityClass) {
+		return (NaturalIdCache<K, I>) CACHES
+				.computeIfAbsent(cacheName(persistenceUnitName, entityClass) + "#naturalId",
+						name -> create(persistenceUnitName, entityClass, name, true))
+				.orElse(null);
+	}
+
+	/**
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the statistics of every cache created on the unit
+	 */
+	public static List<EntityCacheStats> getStats(String persistenceUnitName) {
+		List<EntityCacheStats> stats = new ArrayList<>();
+		String prefix = persistenceUnitName + "/";
+		CACHES.forEach((name, cache) -> {
+			if (name.startsWith(prefix)) {
+				cache.ifPresent(present -> stats.add(present.getStats()));
+			}
+		});
+		return stats;
+	}
+
+	/**
+	 * @return every cache created so far, on any unit
+	 */
+	public static Collection<EntityCache<?, ?>> getCaches() {
+		List<EntityCache<?, ?>> caches = new ArrayList<>();
+		CACHES.values().forEach(cache -> cache.ifPresent(caches::add));
+		return caches;
+	}
+
+	/**
+	 * Empties every cache of the unit.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 */
+	public static void clear(String persistenceUnitName) {
+		String prefix = persistenceUnitName + "/";
+		CACHES.forEach((name, cache) -> {
+			if (name.startsWith(prefix)) {
+				cache.ifPresent(EntityCache::invalidateAll);
+			}
+		});
+	}
+
+	/**
+	 * Turns caching off on a unit whose rows change without going through its
+	 * DAOs, such as a read replica fed by replication, since those changes never
+	 * invalidate its caches. The existing caches of the unit are emptied and
+	 * dropped.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 */
+	public static void disable(String persistenceUnitName) {
+		if (DISABLED_UNITS.add(persistenceUnitName)) {
+			clear(persistenceUnitName);
+			String prefix = persistenceUnitName + "/";
+			CACHES.keySet().removeIf(name -> name.startsWith(prefix));
+		}
+	}
+
+	private static Optional<EntityCache<?, ?>> create(String persistenceUnitName, Class<?> entityClass, String name,
+			boolean naturalIds) {
+		Cacheable cacheable = entityClass.getAnnotation(Cacheable.class);
+		if (cacheable == null || !cacheable.value() || DISABLED_UNITS.contains(persistenceUnitName)) {
+			return Optional.empty();
+		}
+		int maxEntries = EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, MAX_ENTRIES, 10_000);
+		if (maxEntries <= 0) {
+			return Optional.empty();
+		}
+		int ttlMillis = EntityManagerFactoryRegistry.getIntProperty(persistenceUnitName, TTL, 300_000);
+		return Optional.of(naturalIds ? new NaturalIdCache<>(name, maxEntries, ttlMillis)
+				: new EntityCache<>(name, maxEntries, ttlMillis));
+	}
+
+	private static String cacheName(String persistenceUnitName, Class<?> entityClass) {
+		return persistenceUnitName + "/" + entityClass.getName();
+	}
+}
@@ -0,0 +1,83 @@
+package br.com.eaugusto.persistence.cache;
+
+/**
+ * Point-in-time snapshot of the counters of an {@link EntityCache}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class EntityCacheStats {
+
+	private final String cacheName;
+	private final int size;
+	private final int maxEntries;
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final long expirations;
+	private final long invalidations;
+
+	EntityCacheStats(String cacheName, int size, int maxEntries, long hits, long misses, long evictions,
+			long expirations, long invalidations) {
+		this.cacheName = cacheName;
+		this.size = size;
+		this.maxEntries = maxEntries;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.expirations = expirations;
+		this.invalidations = invalidations;
+	}
+
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the entries removed to stay within the size limit
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return the entries removed because their time to live passed
+	 */
+	public long getExpirations() {
+		return expirations;
+	}
+
+	/**
+	 * @return the entries removed by updates and deletes
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	public double getHitRatio() {
+		long lookups = hits + misses;
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return cacheName + " [size=" + size + "/" + maxEntries + ", hits=" + hits + ", misses=" + misses
+				+ ", evictions=" + evictions + ", expirations=" + expirations + ", invalidations=" + invalidations + "]";
+	}
+}
@@ -0,0 +1,27 @@
+package br.com.eaugusto.persistence.cache;
+
+/**
+ * Bounded cache resolving the natural keys of one entity class, such as a
+ * client's CPF or a product's code, to entity IDs.
+ * <p>
+ * It shares the eviction, expiry and invalidation rules of
+ * {@link EntityCache}, but IDs are immutable values and are stored without
+ * copying.
+ *
+ * @param <K> the type of natural key
+ * @param <I> the type of entity ID
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class NaturalIdCache<K, I> extends EntityCache<K, I> {
+
+	public NaturalIdCache(String name, int maxEntries, long ttlMillis) {
+		super(name, maxEntries, ttlMillis);
+	}
+
+	@Override
+	protected I copyOf(I value) {
+		return value;
+	}
+}
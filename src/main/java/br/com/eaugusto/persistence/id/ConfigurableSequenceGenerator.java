@@ -0,0 +1,76 @@
+package br.com.eaugusto.persistence.id;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Sequence generator whose allocation strategy is chosen per persistence unit.
+ * <p>
+ * Entities declare only the sequence name; the allocation mode and block size
+ * come from the unit properties <code>br.com.eaugusto.id.allocation_mode</code>
+ * (see {@link IdAllocationMode}) and
+ * <code>br.com.eaugusto.id.allocation_size</code>. Identifier blocks are handed
+ * out in memory by Hibernate's thread-safe optimizers, so only one database
+ * round trip is needed per block.
+ * <p>
+ * On databases without native sequences, such as the MySQL unit, Hibernate
+ * backs the generator with a single-row table named after the sequence, and
+ * the same block allocation applies.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ConfigurableSequenceGenerator extends SequenceStyleGenerator {
+
+	public static final String ALLOCATION_MODE = "br.com.eaugusto.id.allocation_mode";
+
+	public static final String ALLOCATION_SIZE = "br.com.eaugusto.id.allocation_size";
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+		Map<?, ?> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+		IdAllocationMode mode = getAllocationMode(settings);
+		int allocationSize = mode == IdAllocationMode.NONE ? 1 : getAllocationSize(settings);
+
+		params.setProperty(OPT_PARAM, mode.getOptimizerName());
+		params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+		super.configure(type, params, serviceRegistry);
+	}
+
+	/**
+	 * Reads the allocation mode of the unit, defaulting to one identifier per call.
+	 *
+	 * @param settings the unit settings
+	 * @return the configured allocation mode
+	 */
+	static IdAllocationMode getAllocationMode(Map<?, ?> settings) {
+		Object value = settings.get(ALLOCATION_MODE);
+		return value == null ? IdAllocationMode.NONE : IdAllocationMode.getByName(value.toString().trim());
+	}
+
+	/**
+	 * Reads the allocation block size of the unit.
+	 *
+	 * @param settings the unit settings
+	 * @return the configured block size
+	 * @throws MappingException if the size is not a positive integer
+	 */
+	static int getAllocationSize(Map<?, ?> settings) throws MappingException {
+		Object value = settings.get(ALLOCATION_SIZE);
+		try {
+			int size = value == null ? 50 : Integer.parseInt(value.toString().trim());
+			if (size < 1) {
+				throw new MappingException("Identifier allocation size must be positive: " + size);
+			}
+			return size;
+		} catch (NumberFormatException e) {
+			throw new MappingException("Invalid identifier allocation size: " + value, e);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package br.com.eaugusto.persistence.id;
+
+import br.com.eaugusto.exceptions.DAOParameterException;
+
+/**
+ * Identifier allocation modes supported by {@link ConfigurableSequenceGenerator}.
+ * <p>
+ * Selected per persistence unit through the
+ * <code>br.com.eaugusto.id.allocation_mode</code> property.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public enum IdAllocationMode {
+
+	/**
+	 * One sequence call per identifier. Matches the original
+	 * <code>allocationSize = 1</code> mapping.
+	 */
+	NONE("none"),
+
+	/**
+	 * Hi/lo blocks: each sequence value <code>hi</code> reserves the identifiers
+	 * <code>(hi - 1) * size + 1</code> to <code>hi * size</code> in memory. Works
+	 * with sequences that still increment by one, so no database migration is
+	 * needed.
+	 */
+	HILO("hilo"),
+
+	/**
+	 * Pooled blocks: each sequence value is the lowest identifier of a block of
+	 * <code>size</code> identifiers. Requires the database sequence to increment
+	 * by the allocation size; run {@link SequenceMigration} before switching.
+	 */
+	POOLED_LO("pooled-lo");
+
+	private final String optimizerName;
+
+	IdAllocationMode(String optimizerName) {
+		this.optimizerName = optimizerName;
+	}
+
+	/**
+	 * @return the name of the matching Hibernate sequence optimizer
+	 */
+	public String getOptimizerName() {
+		return optimizerName;
+	}
+
+	/**
+	 * Resolves a mode from its configured name, either the optimizer name or the
+	 * enum constant name.
+	 *
+	 * @param value the configured value
+	 * @return the matching mode
+	 * @throws DAOParameterException if no mode matches
+	 */
+	public static IdAllocationMode getByName(String value) throws DAOParameterException {
+		for (IdAllocationMode mode : IdAllocationMode.values()) {
+			if (mode.optimizerName.equalsIgnoreCase(value) || mode.name().equalsIgnoreCase(value)) {
+				return mode;
+			}
+		}
+		throw new DAOParameterException("Unknown identifier allocation mode: " + value);
+	}
+}
@@ -0,0 +1,165 @@
+package br.com.eaugusto.persistence.id;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.persistence.Column;
+import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.metamodel.EntityType;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Prepares the identifier sequences of a persistence unit for
+ * {@link IdAllocationMode#POOLED_LO}.
+ * <p>
+ * Pooled allocation needs each sequence to advance by the allocation size and
+ * to start past every identifier already used, including those handed out in
+ * {@link IdAllocationMode#HILO} blocks. This utility, run against a unit still
+ * configured with <code>none</code> or <code>hilo</code> and with no
+ * application writing to it, moves every sequence past <code>MAX(id)</code>
+ * of its table and sets its increment:
+ * <ul>
+ * <li>PostgreSQL: <code>setval</code> and <code>ALTER SEQUENCE ... INCREMENT BY</code>;</li>
+ * <li>MySQL: advances <code>next_val</code> of the sequence table, since the
+ * block size of table-backed generators is applied by Hibernate.</li>
+ * </ul>
+ * Afterwards the unit can be switched to <code>pooled-lo</code> with the same
+ * allocation size. If a unit is switched without migrating, Hibernate refuses
+ * to start because the sequence increment does not match.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class SequenceMigration {
+
+	private static final Logger LOGGER = Logger.getLogger(SequenceMigration.class.getName());
+
+	private SequenceMigration() {
+	}
+
+	/**
+	 * Usage: <code>SequenceMigration &lt;persistence unit&gt; [allocation size]</code>
+	 *
+	 * @param args the persistence unit name and, optionally, the allocation size
+	 */
+	public static void main(String[] args) {
+		if (args.length < 1) {
+			System.err.println("Usage: SequenceMigration <persistence unit> [allocation size]");
+			return;
+		}
+		int allocationSize = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		try {
+			migrateToPooled(args[0], allocationSize);
+		} finally {
+			EntityManagerFactoryRegistry.shutdownAll();
+		}
+	}
+
+	/**
+	 * Migrates every generator-backed sequence of the unit in one transaction.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @param allocationSize      the block size the unit will use
+	 * @throws DAOException if any statement fails
+	 */
+	public static void migrateToPooled(String persistenceUnitName, int allocationSize) throws DAOException {
+		EntityManager entityManager = EntityManagerFactoryRegistry.createEntityManager(persistenceUnitName);
+		try {
+			List<SequenceTarget> targets = findSequenceTargets(entityManager);
+			entityManager.getTransaction().begin();
+			entityManager.unwrap(Session.class).doWork(connection -> migrate(connection, targets, allocationSize));
+			entityManager.getTransaction().commit();
+		} catch (Exception e) {
+			throw new DAOException("Error migrating sequences of unit " + persistenceUnitName + ".", e);
+		} finally {
+			if (entityManager.getTransaction().isActive()) {
+				entityManager.getTransaction().rollback();
+			}
+			entityManager.close();
+		}
+	}
+
+	private static void migrate(Connection connection, List<SequenceTarget> targets, int allocationSize)
+			throws SQLException {
+		boolean mySql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+		try (Statement statement = connection.createStatement()) {
+			for (SequenceTarget target : targets) {
+				if (mySql) {
+					statement.executeUpdate("UPDATE " + target.sequenceName + " SET next_val = GREATEST(next_val, "
+							+ "(SELECT COALESCE(MAX(" + target.idColumn + "), 0) + 1 FROM " + target.tableName + "))");
+				} else {
+					statement.execute("SELECT setval('" + target.sequenceName + "', GREATEST("
+							+ "(SELECT COALESCE(MAX(" + target.idColumn + "), 0) FROM " + target.tableName + "), "
+							+ "(SELECT last_value FROM " + target.sequenceName + ")) + 1, false)");
+					statement.execute("ALTER SEQUENCE " + target.sequenceName + " INCREMENT BY " + allocationSize);
+				}
+				LOGGER.info(() -> "Migrated sequence " + target.sequenceName + " of " + target.tableName);
+			}
+		}
+	}
+
+	/**
+	 * Collects the sequence, table and identifier column of every entity of the
+	 * unit whose identifier uses a generator declared with
+	 * {@link GenericGenerator}.
+	 */
+	private static List<SequenceTarget> findSequenceTargets(EntityManager entityManager) {
+		List<SequenceTarget> targets = new ArrayList<>();
+		for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+			Class<?> entityClass = entityType.getJavaType();
+			for (Field field : entityClass.getDeclaredFields()) {
+				GeneratedValue generatedValue = field.getAnnotation(GeneratedValue.class);
+				GenericGenerator generator = field.getAnnotation(GenericGenerator.class);
+				if (field.isAnnotationPresent(Id.class) && generatedValue != null && generator != null
+						&& generator.name().equals(generatedValue.generator())) {
+					Table table = entityClass.getAnnotation(Table.class);
+					Column column = field.getAnnotation(Column.class);
+					targets.add(new SequenceTarget(
+							sequenceNameOf(generator),
+							table != null && !table.name().isEmpty() ? table.name() : entityType.getName(),
+							column != null && !column.name().isEmpty() ? column.name() : field.getName()));
+				}
+			}
+		}
+		return targets;
+	}
+
+	private static String sequenceNameOf(GenericGenerator generator) {
+		for (Parameter parameter : generator.parameters()) {
+			if (SequenceStyleGenerator.SEQUENCE_PARAM.equals(parameter.name())) {
+				return parameter.value();
+			}
+		}
+		return SequenceStyleGenerator.DEF_SEQUENCE_NAME;
+	}
+
+	private static final class SequenceTarget {
+
+		private final String sequenceName;
+
+		private final String tableName;
+
+		private final String idColumn;
+
+		private SequenceTarget(String sequenceName, String tableName, String idColumn) {
+			this.sequenceName = sequenceName;
+			this.tableName = tableName;
+			this.idColumn = idColumn;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package br.com.eaugusto.persistence.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Holds the {@link OperationMetrics} of every DAO operation, tagged with its
+ * persistence unit and entity class.
+ * <p>
+ * Metrics are created on first use and registered as an MXBean named
+ * <code>br.com.eaugusto:type=DAOMetrics,unit=...,entity=...,operation=...</code>,
+ * so they can be browsed with JConsole or any JMX client. In-process, the same
+ * figures are available through {@link #snapshot()}.
+ *
+ * <pre>
+ * try (OperationTimer timer = DAOMetrics.start(unit, JPAClient.class, "findById")) {
+ *     ...
+ *     timer.succeeded();
+ * }
+ * </pre>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class DAOMetrics {
+
+	private static final Logger LOGGER = Logger.getLogger(DAOMetrics.class.getName());
+
+	private static final String DOMAIN = "br.com.eaugusto";
+
+	private static final Map<Key, OperationMetrics> METRICS = new ConcurrentHashMap<>();
+
+	private DAOMetrics() {
+	}
+
+	/**
+	 * Starts timing an operation on the current thread.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @param entityClass         the entity class of the DAO
+	 * @param operation           the operation name, such as <code>findById</code>
+	 * @return the timer, to be closed once the operation ends
+	 */
+	public static OperationTimer start(String persistenceUnitName, Class<?> entityClass, String operation) {
+		return new OperationTimer(forOperation(persistenceUnitName, entityClass, operation));
+	}
+
+	/**
+	 * @param persistenceUnitName the persistence unit name
+	 * @param entityClass         the entity class of the DAO
+	 * @param operation           the operation name
+	 * @return the metrics of the operation, created and registered on first use
+	 */
+	public static OperationMetrics forOperation(String persistenceUnitName, Class<?> entityClass, String operation) {
+		return METRICS.computeIfAbsent(new Key(persistenceUnitName, entityClass.getSimpleName(), operation),
+				DAOMetrics::create);
+	}
+
+	/**
+	 * @return a snapshot of every operation, sorted by unit, entity and operation
+	 */
+	public static List<OperationMetricsSnapshot> snapshot() {
+		return snapshot(null);
+	}
+
+	/**
+	 * @param persistenceUnitName the persistence unit name, or null for every unit
+	 * @return a snapshot of every operation of the unit, sorted by entity and
+	 *         operation
+	 */
+	public static List<OperationMetricsSnapshot> snapshot(String persistenceUnitName) {
+		List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+		METRICS.forEach((key, metrics) -> {
+			if (persistenceUnitName == null || persistenceUnitName.equals(key.persistenceUnit)) {
+				snapshots.add(metrics.snapshot());
+			}
+		});
+		snapshots.sort(Comparator.comparing(OperationMetricsSnapshot::getPersistenceUnit)
+				.thenComparing(OperationMetricsSnapshot::getEntity)
+				.thenComparing(OperationMetricsSnapshot::getOperation));
+		return snapshots;
+	}
+
+	/**
+	 * Clears the figures of every operation. The MXBeans stay registered.
+	 */
+	public static void reset() {
+		METRICS.values().forEach(OperationMetrics::reset);
+	}
+
+	private static OperationMetrics create(Key key) {
+		OperationMetrics metrics = new OperationMetrics(key.persistenceUnit, key.entity, key.operation);
+		try {
+			ObjectName name = new ObjectName(DOMAIN + ":type=DAOMetrics,unit=" + ObjectName.quote(key.persistenceUnit)
+					+ ",entity=" + key.entity + ",operation=" + key.operation);
+			if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+			}
+		} catch (JMException | RuntimeException e) {
+			LOGGER.log(Level.WARNING, "Failed to register DAO metrics over JMX.", e);
+		}
+		return metrics;
+	}
+
+	private static final class Key {
+
+		private final String persistenceUnit;
+		private final String entity;
+		private final String operation;
+
+		private Key(String persistenceUnit, String entity, String operation) {
+			this.persistenceUnit = persistenceUnit;
+			this.entity = entity;
+			this.operation = operation;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) other;
+			return persistenceUnit.equals(key.persistenceUnit) && entity.equals(key.entity)
+					&& operation.equals(key.operation);
+		}
+
+		@Override
+		public int hashCode() {
+			return (persistenceUnit.hashCode() * 31 + entity.hashCode()) * 31 + operation.hashCode();
+		}
+	}
+}
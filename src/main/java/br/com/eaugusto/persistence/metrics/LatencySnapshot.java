@@ -0,0 +1,90 @@
+package br.com.eaugusto.persistence.metrics;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}. Percentiles are reported
+ * as the highest value of their bucket, never above the recorded maximum.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class LatencySnapshot {
+
+	private final long[] counts;
+	private final long count;
+	private final long sumNanos;
+	private final long minNanos;
+	private final long maxNanos;
+
+	LatencySnapshot(long[] counts, long count, long sumNanos, long minNanos, long maxNanos) {
+		this.counts = counts;
+		this.count = count;
+		this.sumNanos = sumNanos;
+		this.minNanos = minNanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/**
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the latency below which that share of the recorded values fall, in
+	 *         nanoseconds, or 0 if nothing was recorded
+	 */
+	public long valueAtPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count));
+		long seen = 0;
+		for (int index = 0; index < counts.length; index++) {
+			seen += counts[index];
+			if (seen >= target) {
+				return Math.min(LatencyHistogram.highestValueAt(index), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the sum of the recorded values, in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return sumNanos;
+	}
+
+	public long getMinNanos() {
+		return minNanos;
+	}
+
+	public long getMeanNanos() {
+		return count == 0 ? 0 : sumNanos / count;
+	}
+
+	public long getP50Nanos() {
+		return valueAtPercentile(50);
+	}
+
+	public long getP90Nanos() {
+		return valueAtPercentile(90);
+	}
+
+	public long getP99Nanos() {
+		return valueAtPercentile(99);
+	}
+
+	public long getP999Nanos() {
+		return valueAtPercentile(99.9);
+	}
+
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencySnapshot[count=" + count + ", mean=" + getMeanNanos() + "ns, p50=" + getP50Nanos()
+				+ "ns, p99=" + getP99Nanos() + "ns, max=" + maxNanos + "ns]";
+	}
+}
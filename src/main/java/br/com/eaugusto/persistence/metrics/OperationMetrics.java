@@ -0,0 +1,140 @@
+package br.com.eaugusto.persistence.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms, error count and rows affected of one DAO operation on
+ * one entity and persistence unit. Obtained from {@link DAOMetrics}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+	private final String persistenceUnit;
+	private final String entity;
+	private final String operation;
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LatencyHistogram acquireLatency = new LatencyHistogram();
+	private final LatencyHistogram queryLatency = new LatencyHistogram();
+	private final LatencyHistogram flushLatency = new LatencyHistogram();
+	private final LatencyHistogram commitLatency = new LatencyHistogram();
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+
+	private volatile long resetAt = System.nanoTime();
+
+	OperationMetrics(String persistenceUnit, String entity, String operation) {
+		this.persistenceUnit = persistenceUnit;
+		this.entity = entity;
+		this.operation = operation;
+	}
+
+	/**
+	 * Records one finished operation. The query phase is the time not spent in
+	 * any other phase.
+	 */
+	void record(long totalNanos, long acquireNanos, long flushNanos, long commitNanos, long rowsAffected,
+			boolean failed) {
+		latency.record(totalNanos);
+		acquireLatency.record(acquireNanos);
+		queryLatency.record(totalNanos - acquireNanos - flushNanos - commitNanos);
+		flushLatency.record(flushNanos);
+		commitLatency.record(commitNanos);
+		count.increment();
+		if (rowsAffected > 0) {
+			rows.add(rowsAffected);
+		}
+		if (failed) {
+			errors.increment();
+		}
+	}
+
+	public OperationMetricsSnapshot snapshot() {
+		LatencySnapshot total = latency.snapshot();
+		return new OperationMetricsSnapshot(persistenceUnit, entity, operation, errors.sum(), rows.sum(),
+				throughputOf(total.getCount()), total, acquireLatency.snapshot(), queryLatency.snapshot(),
+				flushLatency.snapshot(), commitLatency.snapshot());
+	}
+
+	@Override
+	public String getPersistenceUnit() {
+		return persistenceUnit;
+	}
+
+	@Override
+	public String getEntity() {
+		return entity;
+	}
+
+	@Override
+	public String getOperation() {
+		return operation;
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	@Override
+	public long getRowsAffected() {
+		return rows.sum();
+	}
+
+	@Override
+	public double getThroughputPerSecond() {
+		return throughputOf(getCount());
+	}
+
+	@Override
+	public LatencySnapshot getLatency() {
+		return latency.snapshot();
+	}
+
+	@Override
+	public LatencySnapshot getAcquireLatency() {
+		return acquireLatency.snapshot();
+	}
+
+	@Override
+	public LatencySnapshot getQueryLatency() {
+		return queryLatency.snapshot();
+	}
+
+	@Override
+	public LatencySnapshot getFlushLatency() {
+		return flushLatency.snapshot();
+	}
+
+	@Override
+	public LatencySnapshot getCommitLatency() {
+		return commitLatency.snapshot();
+	}
+
+	@Override
+	public void reset() {
+		latency.reset();
+		acquireLatency.reset();
+		queryLatency.reset();
+		flushLatency.reset();
+		commitLatency.reset();
+		count.reset();
+		errors.reset();
+		rows.reset();
+		resetAt = System.nanoTime();
+	}
+
+	private double throughputOf(long operations) {
+		double seconds = (System.nanoTime() - resetAt) / 1_000_000_000.0;
+		return seconds > 0 ? operations / seconds : 0;
+	}
+}
@@ -0,0 +1,57 @@
+package br.com.eaugusto.persistence.metrics;
+
+/**
+ * JMX view of the metrics of one DAO operation, registered as
+ * <code>br.com.eaugusto:type=DAOMetrics,unit=...,entity=...,operation=...</code>.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public interface OperationMetricsMXBean {
+
+	String getPersistenceUnit();
+
+	String getEntity();
+
+	String getOperation();
+
+	long getCount();
+
+	long getErrorCount();
+
+	long getRowsAffected();
+
+	/**
+	 * @return operations per second since the metrics were created or reset
+	 */
+	double getThroughputPerSecond();
+
+	/**
+	 * @return the latency of the whole operation
+	 */
+	LatencySnapshot getLatency();
+
+	/**
+	 * @return the time spent opening the EntityManager and beginning its
+	 *         transaction, which borrows a pooled connection
+	 */
+	LatencySnapshot getAcquireLatency();
+
+	/**
+	 * @return the time spent running statements and mapping results, outside
+	 *         the other phases
+	 */
+	LatencySnapshot getQueryLatency();
+
+	/**
+	 * @return the time spent flushing pending changes
+	 */
+	LatencySnapshot getFlushLatency();
+
+	/**
+	 * @return the time spent committing
+	 */
+	LatencySnapshot getCommitLatency();
+
+	void reset();
+}
@@ -0,0 +1,93 @@
+package br.com.eaugusto.persistence.metrics;
+
+/**
+ * Point-in-time snapshot of the metrics of one DAO operation on one entity and
+ * persistence unit.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class OperationMetricsSnapshot {
+
+	private final String persistenceUnit;
+	private final String entity;
+	private final String operation;
+	private final long errorCount;
+	private final long rowsAffected;
+	private final double throughputPerSecond;
+	private final LatencySnapshot latency;
+	private final LatencySnapshot acquireLatency;
+	private final LatencySnapshot queryLatency;
+	private final LatencySnapshot flushLatency;
+	private final LatencySnapshot commitLatency;
+
+	OperationMetricsSnapshot(String persistenceUnit, String entity, String operation, long errorCount,
+			long rowsAffected, double throughputPerSecond, LatencySnapshot latency, LatencySnapshot acquireLatency,
+			LatencySnapshot queryLatency, LatencySnapshot flushLatency, LatencySnapshot commitLatency) {
+		this.persistenceUnit = persistenceUnit;
+		this.entity = entity;
+		this.operation = operation;
+		this.errorCount = errorCount;
+		this.rowsAffected = rowsAffected;
+		this.throughputPerSecond = throughputPerSecond;
+		this.latency = latency;
+		this.acquireLatency = acquireLatency;
+		this.queryLatency = queryLatency;
+		this.flushLatency = flushLatency;
+		this.commitLatency = commitLatency;
+	}
+
+	public String getPersistenceUnit() {
+		return persistenceUnit;
+	}
+
+	public String getEntity() {
+		return entity;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public long getCount() {
+		return latency.getCount();
+	}
+
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	public long getRowsAffected() {
+		return rowsAffected;
+	}
+
+	public double getThroughputPerSecond() {
+		return throughputPerSecond;
+	}
+
+	public LatencySnapshot getLatency() {
+		return latency;
+	}
+
+	public LatencySnapshot getAcquireLatency() {
+		return acquireLatency;
+	}
+
+	public LatencySnapshot getQueryLatency() {
+		return queryLatency;
+	}
+
+	public LatencySnapshot getFlushLatency() {
+		return flushLatency;
+	}
+
+	public LatencySnapshot getCommitLatency() {
+		return commitLatency;
+	}
+
+	@Override
+	public String toString() {
+		return "OperationMetricsSnapshot[" + persistenceUnit + "/" + entity + "." + operation + ", errors=" + errorCount
+				+ ", rows=" + rowsAffected + ", " + latency + "]";
+	}
+}
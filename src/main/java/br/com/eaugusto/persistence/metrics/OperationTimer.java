@@ -0,0 +1,114 @@
+package br.com.eaugusto.persistence.metrics;
+
+/**
+ * Times one running DAO operation and its phases, then records them in its
+ * {@link OperationMetrics} when closed.
+ * <p>
+ * The timer is bound to the current thread while it runs, so connection and
+ * transaction helpers can report their phase with {@link #addAcquire(long)},
+ * {@link #addFlush(long)} and {@link #addCommit(long)} without being handed
+ * the timer. An operation started inside another one gets its own timer and
+ * restores the outer one when closed. An operation that is closed without
+ * {@link #succeeded(long)} counts as an error.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class OperationTimer implements AutoCloseable {
+
+	private static final ThreadLocal<OperationTimer> CURRENT = new ThreadLocal<>();
+
+	private final OperationMetrics metrics;
+
+	private final OperationTimer outer;
+
+	private final long startedAt = System.nanoTime();
+
+	private long acquireNanos;
+
+	private long flushNanos;
+
+	private long commitNanos;
+
+	private long rowsAffected;
+
+	private boolean succeeded;
+
+	private boolean closed;
+
+	OperationTimer(OperationMetrics metrics) {
+		this.metrics = metrics;
+		this.outer = CURRENT.get();
+		CURRENT.set(this);
+	}
+
+	/**
+	 * Adds the time since <code>startedAt</code> to the acquire phase of the
+	 * operation running on this thread, if any.
+	 *
+	 * @param startedAt the {@link System#nanoTime()} at which the phase began
+	 */
+	public static void addAcquire(long startedAt) {
+		OperationTimer timer = CURRENT.get();
+		if (timer != null) {
+			timer.acquireNanos += System.nanoTime() - startedAt;
+		}
+	}
+
+	/**
+	 * @param startedAt the {@link System#nanoTime()} at which the flush began
+	 * @see #addAcquire(long)
+	 */
+	public static void addFlush(long startedAt) {
+		OperationTimer timer = CURRENT.get();
+		if (timer != null) {
+			timer.flushNanos += System.nanoTime() - startedAt;
+		}
+	}
+
+	/**
+	 * @param startedAt the {@link System#nanoTime()} at which the commit began
+	 * @see #addAcquire(long)
+	 */
+	public static void addCommit(long startedAt) {
+		OperationTimer timer = CURRENT.get();
+		if (timer != null) {
+			timer.commitNanos += System.nanoTime() - startedAt;
+		}
+	}
+
+	/**
+	 * Marks the operation as successful.
+	 */
+	public void succeeded() {
+		succeeded(0);
+	}
+
+	/**
+	 * Marks the operation as successful.
+	 *
+	 * @param rows the number of rows the operation wrote
+	 */
+	public void succeeded(long rows) {
+		this.succeeded = true;
+		this.rowsAffected = rows;
+	}
+
+	/**
+	 * Records the operation and unbinds the timer from the thread. Closing it
+	 * again has no effect.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (outer != null) {
+			CURRENT.set(outer);
+		} else {
+			CURRENT.remove();
+		}
+		metrics.record(System.nanoTime() - startedAt, acquireNanos, flushNanos, commitNanos, rowsAffected, !succeeded);
+	}
+}
@@ -0,0 +1,346 @@
+package br.com.eaugusto.persistence.pool;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import br.com.eaugusto.exceptions.DatabaseConnectionException;
+
+/**
+ * Bounded JDBC connection pool.
+ * <p>
+ * Keeps up to {@code maxSize} physical connections to a single database, of
+ * which at least {@code minSize} are kept warm. Idle connections are reused in
+ * LIFO order and validated before being handed out. A background housekeeper
+ * evicts connections idle for longer than the idle timeout, retires
+ * connections older than the maximum lifetime, refills the pool to its minimum
+ * size and reports connections held for longer than the leak detection
+ * threshold.
+ * <p>
+ * Borrowers that find the pool exhausted wait, in arrival order, for up to the
+ * connection timeout before failing.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class ConnectionPool implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+	private final ConnectionPoolConfig config;
+
+	private final Semaphore permits;
+
+	private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+
+	private final Map<Connection, PooledConnection> borrowedConnections = new ConcurrentHashMap<>();
+
+	private final AtomicInteger totalConnections = new AtomicInteger();
+
+	private final LongAdder borrowCount = new LongAdder();
+
+	private final LongAdder borrowTimeouts = new LongAdder();
+
+	private final LongAdder borrowNanos = new LongAdder();
+
+	private final AtomicLong maxBorrowNanos = new AtomicLong();
+
+	private final LongAdder leaksDetected = new LongAdder();
+
+	private final ScheduledExecutorService housekeeper;
+
+	private volatile boolean closed;
+
+	public ConnectionPool(ConnectionPoolConfig config) throws DatabaseConnectionException {
+		this.config = config;
+		this.permits = new Semaphore(config.getMaxSize(), true);
+		loadDriver();
+		fillToMinimum();
+
+		this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "connection-pool-housekeeper-" + config.getName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = config.getHousekeepingIntervalMillis();
+		housekeeper.scheduleWithFixedDelay(this::housekeep, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Borrows a validated connection, waiting up to the connection timeout if the
+	 * pool is exhausted.
+	 *
+	 * @return a connection that must be given back through {@link #release}
+	 * @throws SQLException if the pool is closed, the wait times out or a new
+	 *                      connection cannot be opened
+	 */
+	public Connection borrow() throws SQLException {
+		if (closed) {
+			throw new SQLException("Connection pool " + config.getName() + " is closed.");
+		}
+
+		long start = System.nanoTime();
+		acquirePermit();
+		try {
+			PooledConnection pooled = takeValidIdleConnection();
+			if (pooled == null) {
+				pooled = createConnection();
+			}
+			pooled.markBorrowed(config.getLeakDetectionThresholdMillis() > 0);
+			borrowedConnections.put(pooled.connection, pooled);
+			recordBorrow(System.nanoTime() - start);
+			return pooled.connection;
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Gives a borrowed connection back to the pool. Connections that are broken,
+	 * past their lifetime or above the pool size are closed instead.
+	 *
+	 * @param connection the connection obtained from {@link #borrow()}
+	 * @throws SQLException if a connection that does not belong to the pool fails
+	 *                      to close
+	 */
+	public void release(Connection connection) throws SQLException {
+		PooledConnection pooled = borrowedConnections.remove(connection);
+		if (pooled == null) {
+			connection.close();
+			return;
+		}
+
+		try {
+			if (closed || pooled.isExpired(config.getMaxLifetimeMillis()) || connection.isClosed()
+					|| totalConnections.get() > config.getMaxSize()) {
+				destroy(pooled);
+			} else {
+				reset(connection);
+				pooled.markIdle();
+				idleConnections.offerFirst(pooled);
+			}
+		} catch (SQLException e) {
+			destroy(pooled);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the current pool state and borrow statistics.
+	 *
+	 * @return the pool statistics
+	 */
+	public ConnectionPoolStats getStats() {
+		long borrows = borrowCount.sum();
+		return new ConnectionPoolStats(config.getName(), borrowedConnections.size(), idleConnections.size(),
+				totalConnections.get(), permits.getQueueLength(), borrows, borrowTimeouts.sum(),
+				borrows == 0 ? 0 : borrowNanos.sum() / borrows, maxBorrowNanos.get(), leaksDetected.sum());
+	}
+
+	public ConnectionPoolConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Closes every idle connection and stops the housekeeper. Connections still
+	 * borrowed are closed as soon as they are released.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		if (housekeeper != null) {
+			housekeeper.shutdownNow();
+		}
+		PooledConnection pooled;
+		while ((pooled = idleConnections.pollFirst()) != null) {
+			destroy(pooled);
+		}
+	}
+
+	private void loadDriver() throws DatabaseConnectionException {
+		if (config.getDriverClassName() == null) {
+			return;
+		}
+		try {
+			Class.forName(config.getDriverClassName());
+		} catch (ClassNotFoundException e) {
+			throw new DatabaseConnectionException("JDBC driver not found: " + config.getDriverClassName(), e);
+		}
+	}
+
+	private void acquirePermit() throws SQLException {
+		try {
+			if (!permits.tryAcquire(config.getConnectionTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+				borrowTimeouts.increment();
+				throw new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeoutMillis()
+						+ " ms waiting for a connection from pool " + config.getName() + ".");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a connection from pool " + config.getName() + ".",
+					e);
+		}
+	}
+
+	private PooledConnection takeValidIdleConnection() {
+		PooledConnection pooled;
+		while ((pooled = idleConnections.pollFirst()) != null) {
+			if (!pooled.isExpired(config.getMaxLifetimeMillis()) && isValid(pooled.connection)) {
+				return pooled;
+			}
+			destroy(pooled);
+		}
+		return null;
+	}
+
+	private boolean isValid(Connection connection) {
+		try {
+			return connection.isValid(config.getValidationTimeoutSeconds());
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	private PooledConnection createConnection() throws SQLException {
+		Connection connection = DriverManager.getConnection(config.getUrl(), config.driverProperties());
+		totalConnections.incrementAndGet();
+		return new PooledConnection(connection);
+	}
+
+	private void reset(Connection connection) throws SQLException {
+		if (!connection.getAutoCommit()) {
+			connection.rollback();
+			connection.setAutoCommit(true);
+		}
+		if (connection.isReadOnly()) {
+			connection.setReadOnly(false);
+		}
+		connection.clearWarnings();
+	}
+
+	private void destroy(PooledConnection pooled) {
+		totalConnections.decrementAndGet();
+		try {
+			pooled.connection.close();
+		} catch (SQLException e) {
+			LOGGER.log(Level.FINE, "Failed to close pooled connection of " + config.getName(), e);
+		}
+	}
+
+	private void recordBorrow(long nanos) {
+		borrowCount.increment();
+		borrowNanos.add(nanos);
+		maxBorrowNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	private void housekeep() {
+		try {
+			evictIdleConnections();
+			fillToMinimum();
+			detectLeaks();
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.WARNING, "Housekeeping failed for pool " + config.getName(), e);
+		}
+	}
+
+	private void evictIdleConnections() {
+		Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+		while (iterator.hasNext()) {
+			PooledConnection pooled = iterator.next();
+			boolean expired = pooled.isExpired(config.getMaxLifetimeMillis());
+			boolean idleTooLong = totalConnections.get() > config.getMinSize()
+					&& pooled.idleMillis() > config.getIdleTimeoutMillis();
+			if ((expired || idleTooLong) && idleConnections.removeFirstOccurrence(pooled)) {
+				destroy(pooled);
+			}
+		}
+	}
+
+	private void fillToMinimum() {
+		while (!closed && totalConnections.get() < config.getMinSize()) {
+			try {
+				idleConnections.offerLast(createConnection());
+			} catch (SQLException e) {
+				LOGGER.log(Level.WARNING, "Could not open connection for pool " + config.getName(), e);
+				return;
+			}
+		}
+	}
+
+	private void detectLeaks() {
+		long threshold = config.getLeakDetectionThresholdMillis();
+		if (threshold <= 0) {
+			return;
+		}
+		for (PooledConnection pooled : borrowedConnections.values()) {
+			if (!pooled.leakReported && pooled.borrowedMillis() > threshold) {
+				pooled.leakReported = true;
+				leaksDetected.increment();
+				LOGGER.log(Level.WARNING, "Connection of pool " + config.getName() + " held for more than "
+						+ threshold + " ms, possible leak.", pooled.borrowTrace);
+			}
+		}
+	}
+
+	/**
+	 * A physical connection together with its pool bookkeeping.
+	 */
+	private static final class PooledConnection {
+
+		private final Connection connection;
+
+		private final long createdAt = System.nanoTime();
+
+		private volatile long lastUsedAt = createdAt;
+
+		private volatile long borrowedAt;
+
+		private volatile Exception borrowTrace;
+
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		private void markBorrowed(boolean captureTrace) {
+			borrowedAt = System.nanoTime();
+			borrowTrace = captureTrace ? new Exception("Connection borrowed here") : null;
+			leakReported = false;
+		}
+
+		private void markIdle() {
+			lastUsedAt = System.nanoTime();
+			borrowTrace = null;
+		}
+
+		private boolean isExpired(long maxLifetimeMillis) {
+			return maxLifetimeMillis > 0 && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdAt) > maxLifetimeMillis;
+		}
+
+		private long idleMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUsedAt);
+		}
+
+		private long borrowedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - borrowedAt);
+		}
+	}
+}
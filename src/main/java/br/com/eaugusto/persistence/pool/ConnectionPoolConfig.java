@@ -0,0 +1,157 @@
+package br.com.eaugusto.persistence.pool;
+
+import java.util.Map;
+import java.util.Properties;
+
+import br.com.eaugusto.exceptions.DAOParameterException;
+
+/**
+ * Immutable settings of a {@link ConnectionPool}.
+ * <p>
+ * Built from the properties of a persistence unit. JDBC settings are read from
+ * <code>hibernate.connection.*</code> or <code>javax.persistence.jdbc.*</code>,
+ * and the pool settings from the <code>br.com.eaugusto.pool.*</code> keys
+ * below. Any missing pool setting falls back to its default.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class ConnectionPoolConfig {
+
+	public static final String MIN_SIZE = "br.com.eaugusto.pool.min_size";
+	public static final String MAX_SIZE = "br.com.eaugusto.pool.max_size";
+	public static final String CONNECTION_TIMEOUT_MS = "br.com.eaugusto.pool.connection_timeout_ms";
+	public static final String IDLE_TIMEOUT_MS = "br.com.eaugusto.pool.idle_timeout_ms";
+	public static final String MAX_LIFETIME_MS = "br.com.eaugusto.pool.max_lifetime_ms";
+	public static final String VALIDATION_TIMEOUT_S = "br.com.eaugusto.pool.validation_timeout_s";
+	public static final String LEAK_DETECTION_THRESHOLD_MS = "br.com.eaugusto.pool.leak_detection_threshold_ms";
+	public static final String HOUSEKEEPING_INTERVAL_MS = "br.com.eaugusto.pool.housekeeping_interval_ms";
+
+	private final String name;
+	private final String driverClassName;
+	private final String url;
+	private final String user;
+	private final String password;
+	private final int minSize;
+	private final int maxSize;
+	private final long connectionTimeoutMillis;
+	private final long idleTimeoutMillis;
+	private final long maxLifetimeMillis;
+	private final int validationTimeoutSeconds;
+	private final long leakDetectionThresholdMillis;
+	private final long housekeepingIntervalMillis;
+
+	private ConnectionPoolConfig(String name, Map<?, ?> settings) {
+		this.name = name;
+		this.driverClassName = firstOf(settings, "hibernate.connection.driver_class", "javax.persistence.jdbc.driver");
+		this.url = firstOf(settings, "hibernate.connection.url", "javax.persistence.jdbc.url");
+		this.user = firstOf(settings, "hibernate.connection.username", "javax.persistence.jdbc.user");
+		this.password = firstOf(settings, "hibernate.connection.password", "javax.persistence.jdbc.password");
+		this.minSize = (int) longOf(settings, MIN_SIZE, 2);
+		this.maxSize = (int) longOf(settings, MAX_SIZE, 10);
+		this.connectionTimeoutMillis = longOf(settings, CONNECTION_TIMEOUT_MS, 30_000);
+		this.idleTimeoutMillis = longOf(settings, IDLE_TIMEOUT_MS, 600_000);
+		this.maxLifetimeMillis = longOf(settings, MAX_LIFETIME_MS, 1_800_000);
+		this.validationTimeoutSeconds = (int) longOf(settings, VALIDATION_TIMEOUT_S, 5);
+		this.leakDetectionThresholdMillis = longOf(settings, LEAK_DETECTION_THRESHOLD_MS, 0);
+		this.housekeepingIntervalMillis = longOf(settings, HOUSEKEEPING_INTERVAL_MS, 30_000);
+
+		if (url == null) {
+			throw new DAOParameterException("No JDBC URL configured for connection pool " + name + ".");
+		}
+		if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+			throw new DAOParameterException("Invalid pool size for " + name + ": min=" + minSize + ", max=" + maxSize + ".");
+		}
+	}
+
+	/**
+	 * Reads the pool settings from a persistence unit configuration map.
+	 *
+	 * @param name     the pool name, usually the persistence unit name
+	 * @param settings the unit configuration values
+	 * @return the pool configuration
+	 * @throws DAOParameterException if the URL is missing or the sizes are invalid
+	 */
+	public static ConnectionPoolConfig from(String name, Map<?, ?> settings) throws DAOParameterException {
+		return new ConnectionPoolConfig(name, settings);
+	}
+
+	private static String firstOf(Map<?, ?> settings, String... keys) {
+		for (String key : keys) {
+			Object value = settings.get(key);
+			if (value != null && !"".equals(value.toString())) {
+				return value.toString();
+			}
+		}
+		return null;
+	}
+
+	private static long longOf(Map<?, ?> settings, String key, long defaultValue) {
+		String value = firstOf(settings, key);
+		try {
+			return value == null ? defaultValue : Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw new DAOParameterException("Invalid value for " + key + ": " + value, e);
+		}
+	}
+
+	/**
+	 * Builds the properties passed to the JDBC driver.
+	 *
+	 * @return the driver properties holding the user and password
+	 */
+	Properties driverProperties() {
+		Properties properties = new Properties();
+		if (user != null) {
+			properties.setProperty("user", user);
+		}
+		if (password != null) {
+			properties.setProperty("password", password);
+		}
+		return properties;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDriverClassName() {
+		return driverClassName;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public int getMinSize() {
+		return minSize;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getConnectionTimeoutMillis() {
+		return connectionTimeoutMillis;
+	}
+
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	public long getMaxLifetimeMillis() {
+		return maxLifetimeMillis;
+	}
+
+	public int getValidationTimeoutSeconds() {
+		return validationTimeoutSeconds;
+	}
+
+	public long getLeakDetectionThresholdMillis() {
+		return leakDetectionThresholdMillis;
+	}
+
+	public long getHousekeepingIntervalMillis() {
+		return housekeepingIntervalMillis;
+	}
+}
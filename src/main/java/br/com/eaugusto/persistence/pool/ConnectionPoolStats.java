@@ -0,0 +1,84 @@
+package br.com.eaugusto.persistence.pool;
+
+/**
+ * Point-in-time snapshot of the state of a {@link ConnectionPool}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class ConnectionPoolStats {
+
+	private final String poolName;
+	private final int activeConnections;
+	private final int idleConnections;
+	private final int totalConnections;
+	private final int waitingThreads;
+	private final long borrowCount;
+	private final long borrowTimeouts;
+	private final long meanBorrowNanos;
+	private final long maxBorrowNanos;
+	private final long leaksDetected;
+
+	ConnectionPoolStats(String poolName, int activeConnections, int idleConnections, int totalConnections,
+			int waitingThreads, long borrowCount, long borrowTimeouts, long meanBorrowNanos, long maxBorrowNanos,
+			long leaksDetected) {
+		this.poolName = poolName;
+		this.activeConnections = activeConnections;
+		this.idleConnections = idleConnections;
+		this.totalConnections = totalConnections;
+		this.waitingThreads = waitingThreads;
+		this.borrowCount = borrowCount;
+		this.borrowTimeouts = borrowTimeouts;
+		this.meanBorrowNanos = meanBorrowNanos;
+		this.maxBorrowNanos = maxBorrowNanos;
+		this.leaksDetected = leaksDetected;
+	}
+
+	public String getPoolName() {
+		return poolName;
+	}
+
+	public int getActiveConnections() {
+		return activeConnections;
+	}
+
+	public int getIdleConnections() {
+		return idleConnections;
+	}
+
+	public int getTotalConnections() {
+		return totalConnections;
+	}
+
+	public int getWaitingThreads() {
+		return waitingThreads;
+	}
+
+	public long getBorrowCount() {
+		return borrowCount;
+	}
+
+	public long getBorrowTimeouts() {
+		return borrowTimeouts;
+	}
+
+	public long getMeanBorrowNanos() {
+		return meanBorrowNanos;
+	}
+
+	public long getMaxBorrowNanos() {
+		return maxBorrowNanos;
+	}
+
+	public long getLeaksDetected() {
+		return leaksDetected;
+	}
+
+	@Override
+	public String toString() {
+		return poolName + " [active=" + activeConnections + ", idle=" + idleConnections + ", total="
+				+ totalConnections + ", waiting=" + waitingThreads + ", borrows=" + borrowCount + ", timeouts="
+				+ borrowTimeouts + ", meanBorrowMicros=" + meanBorrowNanos / 1_000 + ", maxBorrowMicros="
+				+ maxBorrowNanos / 1_000 + ", leaks=" + leaksDetected + "]";
+	}
+}
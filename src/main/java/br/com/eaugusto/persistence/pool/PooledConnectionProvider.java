@@ -0,0 +1,120 @@
+package br.com.eaugusto.persistence.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+import br.com.eaugusto.persistence.statement.StatementCapture;
+
+/**
+ * Hibernate {@link ConnectionProvider} backed by a {@link ConnectionPool}.
+ * <p>
+ * Enabled per persistence unit in <code>persistence.xml</code> through
+ * <code>hibernate.connection.provider_class</code>, replacing Hibernate's
+ * built-in, non-production <code>DriverManagerConnectionProvider</code>. Each
+ * unit gets its own pool, registered under the persistence unit name so its
+ * statistics can be read through {@link #getStats(String)}.
+ * <p>
+ * Unless <code>br.com.eaugusto.sql.capture</code> is false, connections are
+ * handed out wrapped so their statements are recorded by the unit's
+ * {@link StatementCapture}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final String PERSISTENCE_UNIT_NAME = "hibernate.ejb.persistenceUnitName";
+
+	private static final Map<String, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+
+	private transient ConnectionPool pool;
+
+	private transient StatementCapture capture;
+
+	@Override
+	public void configure(@SuppressWarnings("rawtypes") Map configurationValues) {
+		Object unitName = configurationValues.get(PERSISTENCE_UNIT_NAME);
+		ConnectionPoolConfig config = ConnectionPoolConfig.from(
+				unitName != null ? unitName.toString() : String.valueOf(configurationValues.get("javax.persistence.jdbc.url")),
+				configurationValues);
+		capture = StatementCapture.configure(config.getName(), configurationValues);
+		pool = new ConnectionPool(config);
+		ConnectionPool previous = POOLS.put(config.getName(), pool);
+		if (previous != null) {
+			previous.close();
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		Connection connection = pool.borrow();
+		return capture != null ? capture.wrap(connection) : connection;
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		pool.release(StatementCapture.unwrap(connection));
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return true;
+	}
+
+	@Override
+	public void stop() {
+		if (pool != null) {
+			POOLS.remove(pool.getConfig().getName(), pool);
+			pool.close();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals(unwrapType) || PooledConnectionProvider.class.isAssignableFrom(unwrapType)
+				|| ConnectionPool.class.isAssignableFrom(unwrapType);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> unwrapType) {
+		if (ConnectionProvider.class.equals(unwrapType) || PooledConnectionProvider.class.isAssignableFrom(unwrapType)) {
+			return (T) this;
+		}
+		if (ConnectionPool.class.isAssignableFrom(unwrapType)) {
+			return (T) pool;
+		}
+		throw new UnknownUnwrapTypeException(unwrapType);
+	}
+
+	/**
+	 * Returns the statistics of the pool serving the given persistence unit.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the pool statistics, or null if the unit has no pool yet
+	 */
+	public static ConnectionPoolStats getStats(String persistenceUnitName) {
+		ConnectionPool unitPool = POOLS.get(persistenceUnitName);
+		return unitPool != null ? unitPool.getStats() : null;
+	}
+
+	/**
+	 * Returns the pools of every persistence unit currently bootstrapped.
+	 *
+	 * @return the active pools
+	 */
+	public static Collection<ConnectionPool> getPools() {
+		return POOLS.values();
+	}
+}
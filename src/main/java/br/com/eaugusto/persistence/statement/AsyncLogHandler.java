@@ -0,0 +1,109 @@
+package br.com.eaugusto.persistence.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Logging {@link Handler} that hands records to another handler on a
+ * background thread.
+ * <p>
+ * Publishing only offers the record to a bounded queue, so the logging thread
+ * never waits on the console or on a file. When the queue is full the record
+ * is dropped and counted in {@link #getDroppedCount()}. Messages are formatted
+ * by the delegate on the background thread; callers should pass parameters
+ * rather than concatenated strings. Flushing the handler publishes what is
+ * still queued on the calling thread; closing it also closes the delegate.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public class AsyncLogHandler extends Handler {
+
+	private static final long CLOSE_TIMEOUT_MS = 1000;
+
+	private final Handler delegate;
+
+	private final BlockingQueue<LogRecord> queue;
+
+	private final LongAdder dropped = new LongAdder();
+
+	private final Thread worker;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param delegate the handler that writes the records
+	 * @param capacity the records kept waiting before new ones are dropped
+	 */
+	public AsyncLogHandler(Handler delegate, int capacity) {
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.worker = new Thread(this::drain, "async-log-handler");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	@Override
+	public void publish(LogRecord record) {
+		if (closed || !isLoggable(record)) {
+			return;
+		}
+		if (!queue.offer(record)) {
+			dropped.increment();
+		}
+	}
+
+	@Override
+	public void flush() {
+		publishQueued();
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		worker.interrupt();
+		try {
+			worker.join(CLOSE_TIMEOUT_MS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		publishQueued();
+		delegate.close();
+	}
+
+	/**
+	 * @return the records dropped because the queue was full
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	private void drain() {
+		while (!closed) {
+			try {
+				LogRecord record = queue.poll(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				if (record != null) {
+					delegate.publish(record);
+				}
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	private void publishQueued() {
+		List<LogRecord> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		remaining.forEach(delegate::publish);
+		delegate.flush();
+	}
+}
@@ -0,0 +1,234 @@
+package br.com.eaugusto.persistence.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDBC proxies that time statements and count their rows for a
+ * {@link StatementCapture}.
+ * <p>
+ * A query is recorded once its result set or statement is closed, so its time
+ * includes fetching the rows it returned; updates and batches are recorded as
+ * soon as they return.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+final class CapturingJdbc {
+
+	private CapturingJdbc() {
+	}
+
+	static Connection wrap(StatementCapture capture, Connection connection) {
+		return proxy(Connection.class, new ConnectionHandler(capture, connection));
+	}
+
+	static Connection unwrap(Connection connection) {
+		if (Proxy.isProxyClass(connection.getClass())
+				&& Proxy.getInvocationHandler(connection) instanceof ConnectionHandler) {
+			return ((ConnectionHandler) Proxy.getInvocationHandler(connection)).target;
+		}
+		return connection;
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(CapturingJdbc.class.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static Object identity(Object proxy, Method method, Object[] args) {
+		if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+			return proxy == args[0];
+		}
+		if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+			return System.identityHashCode(proxy);
+		}
+		return null;
+	}
+
+	private static long rowsOf(Object result) {
+		if (result instanceof Integer || result instanceof Long) {
+			return Math.max(0, ((Number) result).longValue());
+		}
+		long rows = 0;
+		if (result instanceof int[]) {
+			for (int count : (int[]) result) {
+				rows += Math.max(0, count);
+			}
+		} else if (result instanceof long[]) {
+			for (long count : (long[]) result) {
+				rows += Math.max(0, count);
+			}
+		}
+		return rows;
+	}
+
+	private static final class ConnectionHandler implements InvocationHandler {
+
+		private final StatementCapture capture;
+
+		private final Connection target;
+
+		private ConnectionHandler(StatementCapture capture, Connection target) {
+			this.capture = capture;
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object identity = identity(proxy, method, args);
+			if (identity != null) {
+				return identity;
+			}
+
+			Object result = CapturingJdbc.invoke(target, method, args);
+			String name = method.getName();
+			if (result instanceof Statement && (name.startsWith("prepare") || "createStatement".equals(name))) {
+				String sql = name.startsWith("prepare") ? (String) args[0] : null;
+				return proxy(method.getReturnType().asSubclass(Statement.class),
+						new StatementHandler(capture, (Statement) result, sql, (Connection) proxy));
+			}
+			return result;
+		}
+	}
+
+	private static final class StatementHandler implements InvocationHandler {
+
+		private final StatementCapture capture;
+
+		private final Statement target;
+
+		private final String preparedSql;
+
+		private final Connection connection;
+
+		private String batchSql;
+
+		private String pendingSql;
+
+		private long pendingNanos;
+
+		private long pendingRows;
+
+		private StatementHandler(StatementCapture capture, Statement target, String preparedSql, Connection connection) {
+			this.capture = capture;
+			this.target = target;
+			this.preparedSql = preparedSql;
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object identity = identity(proxy, method, args);
+			if (identity != null) {
+				return identity;
+			}
+
+			String name = method.getName();
+			if ("getConnection".equals(name)) {
+				return connection;
+			}
+			if ("addBatch".equals(name) && args != null && args.length == 1) {
+				batchSql = (String) args[0];
+			}
+			if ("close".equals(name)) {
+				recordPending();
+			}
+			if (!name.startsWith("execute")) {
+				Object result = CapturingJdbc.invoke(target, method, args);
+				return result instanceof ResultSet && "getResultSet".equals(name) ? wrap((ResultSet) result, proxy) : result;
+			}
+
+			recordPending();
+			String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0]
+					: preparedSql != null ? preparedSql : batchSql;
+			long startedAt = System.nanoTime();
+			Object result;
+			try {
+				result = CapturingJdbc.invoke(target, method, args);
+			} catch (Throwable e) {
+				capture.record(sql, System.nanoTime() - startedAt, 0, true);
+				throw e;
+			}
+			long elapsed = System.nanoTime() - startedAt;
+
+			if (result instanceof ResultSet || Boolean.TRUE.equals(result)) {
+				pendingSql = sql;
+				pendingNanos = elapsed;
+				pendingRows = 0;
+				return result instanceof ResultSet ? wrap((ResultSet) result, proxy) : result;
+			}
+			if ("executeBatch".equals(name) || "executeLargeBatch".equals(name)) {
+				batchSql = null;
+			}
+			capture.record(sql, elapsed, rowsOf(result), false);
+			return result;
+		}
+
+		private ResultSet wrap(ResultSet resultSet, Object statement) {
+			return proxy(ResultSet.class, new ResultSetHandler(this, resultSet, (Statement) statement));
+		}
+
+		private void recordPending() {
+			if (pendingSql != null) {
+				capture.record(pendingSql, pendingNanos, pendingRows, false);
+				pendingSql = null;
+			}
+		}
+	}
+
+	private static final class ResultSetHandler implements InvocationHandler {
+
+		private final StatementHandler statementHandler;
+
+		private final ResultSet target;
+
+		private final Statement statement;
+
+		private ResultSetHandler(StatementHandler statementHandler, ResultSet target, Statement statement) {
+			this.statementHandler = statementHandler;
+			this.target = target;
+			this.statement = statement;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object identity = identity(proxy, method, args);
+			if (identity != null) {
+				return identity;
+			}
+
+			String name = method.getName();
+			if ("getStatement".equals(name)) {
+				return statement;
+			}
+			if ("next".equals(name)) {
+				long startedAt = System.nanoTime();
+				Object hasRow = CapturingJdbc.invoke(target, method, args);
+				statementHandler.pendingNanos += System.nanoTime() - startedAt;
+				if (Boolean.TRUE.equals(hasRow)) {
+					statementHandler.pendingRows++;
+				}
+				return hasRow;
+			}
+
+			Object result = CapturingJdbc.invoke(target, method, args);
+			if ("close".equals(name)) {
+				statementHandler.recordPending();
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package br.com.eaugusto.persistence.statement;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to a fingerprint shared by every execution of the
+ * same statement shape.
+ * <p>
+ * Comments are dropped, string and numeric literals become <code>?</code>,
+ * whitespace is collapsed and everything is lower-cased. Lists of placeholders,
+ * such as <code>IN (?, ?, ?)</code> or multi-row <code>VALUES</code>, become a
+ * single <code>(?)</code>, so a query does not get a new fingerprint for each
+ * list size.
+ *
+ * <pre>
+ * SqlFingerprint.of("SELECT * FROM t WHERE a = 'x' AND b IN (1, 2, 3)")
+ *     = "select * from t where a = ? and b in (?)"
+ * </pre>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class SqlFingerprint {
+
+	private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\( ?\\?(?: ?, ?\\?)+ ?\\)");
+
+	private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(?: ?, ?\\(\\?\\))+");
+
+	private SqlFingerprint() {
+	}
+
+	/**
+	 * @param sql the statement
+	 * @return the fingerprint of the statement, or an empty string for null
+	 */
+	public static String of(String sql) {
+		if (sql == null) {
+			return "";
+		}
+
+		StringBuilder fingerprint = new StringBuilder(sql.length());
+		int length = sql.length();
+		int index = 0;
+		while (index < length) {
+			char current = sql.charAt(index);
+			char next = index + 1 < length ? sql.charAt(index + 1) : '\0';
+			if (current == '-' && next == '-') {
+				index = skipLineComment(sql, index);
+			} else if (current == '/' && next == '*') {
+				index = skipBlockComment(sql, index);
+			} else if (current == '\'') {
+				index = skipStringLiteral(sql, index);
+				fingerprint.append('?');
+			} else if (current == '"') {
+				int end = skipQuotedIdentifier(sql, index);
+				fingerprint.append(sql, index, end);
+				index = end;
+			} else if (Character.isDigit(current) && !endsWithIdentifier(fingerprint)) {
+				index = skipNumber(sql, index);
+				fingerprint.append('?');
+			} else if (Character.isWhitespace(current)) {
+				appendSpace(fingerprint);
+				index++;
+			} else {
+				fingerprint.append(Character.toLowerCase(current));
+				index++;
+			}
+		}
+
+		String collapsed = PLACEHOLDER_LIST.matcher(fingerprint.toString().trim()).replaceAll("(?)");
+		return ROW_LIST.matcher(collapsed).replaceAll("(?)");
+	}
+
+	private static int skipLineComment(String sql, int index) {
+		int end = sql.indexOf('\n', index);
+		return end < 0 ? sql.length() : end;
+	}
+
+	private static int skipBlockComment(String sql, int index) {
+		int end = sql.indexOf("*/", index + 2);
+		return end < 0 ? sql.length() : end + 2;
+	}
+
+	private static int skipStringLiteral(String sql, int index) {
+		int position = index + 1;
+		while (position < sql.length()) {
+			if (sql.charAt(position) == '\'') {
+				if (position + 1 < sql.length() && sql.charAt(position + 1) == '\'') {
+					position += 2;
+					continue;
+				}
+				return position + 1;
+			}
+			position++;
+		}
+		return position;
+	}
+
+	private static int skipQuotedIdentifier(String sql, int index) {
+		int end = sql.indexOf('"', index + 1);
+		return end < 0 ? sql.length() : end + 1;
+	}
+
+	private static int skipNumber(String sql, int index) {
+		int position = index;
+		while (position < sql.length() && (Character.isDigit(sql.charAt(position)) || sql.charAt(position) == '.')) {
+			position++;
+		}
+		return position;
+	}
+
+	private static boolean endsWithIdentifier(StringBuilder fingerprint) {
+		if (fingerprint.length() == 0) {
+			return false;
+		}
+		char last = fingerprint.charAt(fingerprint.length() - 1);
+		return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+	}
+
+	private static void appendSpace(StringBuilder fingerprint) {
+		if (fingerprint.length() > 0 && fingerprint.charAt(fingerprint.length() - 1) != ' ') {
+			fingerprint.append(' ');
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package br.com.eaugusto.persistence.statement;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.EntityManagerFactoryRegistry;
+
+/**
+ * Statement statistics and slow-query log of one persistence unit.
+ * <p>
+ * Replaces <code>hibernate.show_sql</code>, which printed every statement
+ * synchronously. The {@link br.com.eaugusto.persistence.pool.PooledConnectionProvider}
+ * hands out connections that time every statement and count its rows; each
+ * execution is then aggregated under the {@link SqlFingerprint} of its SQL.
+ * Statements slower than <code>br.com.eaugusto.sql.slow_threshold_ms</code>
+ * are logged at <code>WARNING</code>, and a <code>log_sample_rate</code> share
+ * of the others at <code>INFO</code>, on the <code>br.com.eaugusto.sql.slow</code>
+ * logger. Unless configured otherwise, that logger writes to the console
+ * through an {@link AsyncLogHandler}, so logging never blocks a statement.
+ * <p>
+ * At most <code>max_fingerprints</code> fingerprints are kept per unit; later
+ * ones are aggregated under <code>&lt;other&gt;</code>. Statistics start over
+ * when the unit is bootstrapped again.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class StatementCapture {
+
+	public static final String ENABLED = "br.com.eaugusto.sql.capture";
+	public static final String SLOW_THRESHOLD_MS = "br.com.eaugusto.sql.slow_threshold_ms";
+	public static final String LOG_SAMPLE_RATE = "br.com.eaugusto.sql.log_sample_rate";
+	public static final String MAX_FINGERPRINTS = "br.com.eaugusto.sql.max_fingerprints";
+
+	public static final String OTHER_FINGERPRINT = "<other>";
+
+	private static final Logger SLOW_LOG = Logger.getLogger("br.com.eaugusto.sql.slow");
+
+	private static final Map<String, StatementCapture> CAPTURES = new ConcurrentHashMap<>();
+
+	private final String persistenceUnit;
+
+	private final long slowThresholdNanos;
+
+	private final double logSampleRate;
+
+	private final int maxFingerprints;
+
+	private final Map<String, StatementStatistics> bySql = new ConcurrentHashMap<>();
+
+	private final Map<String, StatementStatistics> byFingerprint = new ConcurrentHashMap<>();
+
+	private StatementCapture(String persistenceUnit, long slowThresholdMillis, double logSampleRate, int maxFingerprints) {
+		this.persistenceUnit = persistenceUnit;
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+		this.logSampleRate = logSampleRate;
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	/**
+	 * Reads the capture settings of a persistence unit and registers its capture,
+	 * replacing the previous one.
+	 *
+	 * @param persistenceUnitName the persistence unit name
+	 * @param settings            the unit configuration values
+	 * @return the capture, or null if capture is disabled for the unit
+	 * @throws DAOParameterException if a setting is invalid
+	 */
+	public static StatementCapture configure(String persistenceUnitName, Map<?, ?> settings)
+			throws DAOParameterException {
+		if (!Boolean.parseBoolean(valueOf(settings, ENABLED, "true"))) {
+			CAPTURES.remove(persistenceUnitName);
+			return null;
+		}
+
+		long slowThreshold;
+		double sampleRate;
+		int fingerprints;
+		try {
+			slowThreshold = Long.parseLong(valueOf(settings, SLOW_THRESHOLD_MS, "200"));
+			sampleRate = Double.parseDouble(valueOf(settings, LOG_SAMPLE_RATE, "0"));
+			fingerprints = Integer.parseInt(valueOf(settings, MAX_FINGERPRINTS, "500"));
+		} catch (NumberFormatException e) {
+			throw new DAOParameterException("Invalid statement capture setting for " + persistenceUnitName + ".", e);
+		}
+		if (slowThreshold < 0 || sampleRate < 0 || sampleRate > 1 || fingerprints < 1) {
+			throw new DAOParameterException("Invalid statement capture setting for " + persistenceUnitName
+					+ ": slow_threshold_ms=" + slowThreshold + ", log_sample_rate=" + sampleRate
+					+ ", max_fingerprints=" + fingerprints + ".");
+		}
+
+		installDefaultHandler();
+		StatementCapture capture = new StatementCapture(persistenceUnitName, slowThreshold, sampleRate, fingerprints);
+		CAPTURES.put(persistenceUnitName, capture);
+		return capture;
+	}
+
+	/**
+	 * @param persistenceUnitName the persistence unit name
+	 * @return the statistics of every fingerprint of the unit, slowest total time
+	 *         first, or an empty list if the unit has no capture
+	 */
+	public static List<StatementStatisticsSnapshot> snapshot(String persistenceUnitName) {
+		StatementCapture capture = CAPTURES.get(persistenceUnitName);
+		List<StatementStatisticsSnapshot> snapshots = new ArrayList<>();
+		if (capture != null) {
+			capture.byFingerprint.values().forEach(statistics -> snapshots.add(statistics.snapshot()));
+		}
+		snapshots.sort(Comparator.comparingLong(StatementStatisticsSnapshot::getTotalNanos).reversed());
+		return snapshots;
+	}
+
+	/**
+	 * Clears the statistics of every unit.
+	 */
+	public static void reset() {
+		CAPTURES.values().forEach(capture -> capture.byFingerprint.values().forEach(StatementStatistics::reset));
+	}
+
+	/**
+	 * @param connection a connection from the pool
+	 * @return a connection that records the statements it runs
+	 */
+	public Connection wrap(Connection connection) {
+		return CapturingJdbc.wrap(this, connection);
+	}
+
+	/**
+	 * @param connection a connection returned by {@link #wrap(Connection)}, or any
+	 *                   other connection
+	 * @return the pooled connection behind the wrapper, or the connection itself
+	 */
+	public static Connection unwrap(Connection connection) {
+		return CapturingJdbc.unwrap(connection);
+	}
+
+	void record(String sql, long nanos, long rows, boolean failed) {
+		if (sql == null) {
+			return;
+		}
+
+		StatementStatistics statistics = bySql.get(sql);
+		if (statistics == null) {
+			statistics = statisticsOf(SqlFingerprint.of(sql));
+			if (bySql.size() < maxFingerprints * 4) {
+				bySql.put(sql, statistics);
+			}
+		}
+		statistics.record(nanos, rows, failed);
+
+		if (nanos >= slowThresholdNanos) {
+			log(Level.WARNING, sql, nanos, rows);
+		} else if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+			log(Level.INFO, sql, nanos, rows);
+		}
+	}
+
+	private StatementStatistics statisticsOf(String fingerprint) {
+		StatementStatistics statistics = byFingerprint.get(fingerprint);
+		if (statistics != null) {
+			return statistics;
+		}
+		String key = byFingerprint.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+		return byFingerprint.computeIfAbsent(key, k -> new StatementStatistics(persistenceUnit, k));
+	}
+
+	/**
+	 * Sends the slow-query log to the console through an {@link AsyncLogHandler}
+	 * unless a handler was configured for it. Runs when the first capture is
+	 * configured rather than when the class loads, so the logger is left alone
+	 * while capture is off. What is still queued is published by
+	 * {@link EntityManagerFactoryRegistry#shutdownAll()}.
+	 */
+	private static synchronized void installDefaultHandler() {
+		if (SLOW_LOG.getHandlers().length > 0) {
+			return;
+		}
+		AsyncLogHandler handler = new AsyncLogHandler(new ConsoleHandler(), 1024);
+		SLOW_LOG.addHandler(handler);
+		SLOW_LOG.setUseParentHandlers(false);
+		EntityManagerFactoryRegistry.addShutdownAction(handler::flush);
+	}
+
+	private void log(Level level, String sql, long nanos, long rows) {
+		if (SLOW_LOG.isLoggable(level)) {
+			SLOW_LOG.logp(level, StatementCapture.class.getName(), "record", "[{0}] {1} ms, {2} rows: {3}",
+					new Object[] { persistenceUnit, nanos / 1_000_000.0, rows, sql });
+		}
+	}
+
+	private static String valueOf(Map<?, ?> settings, String key, String defaultValue) {
+		Object value = settings.get(key);
+		return value == null || "".equals(value.toString().trim()) ? defaultValue : value.toString().trim();
+	}
+}
@@ -0,0 +1,65 @@
+package br.com.eaugusto.persistence.statement;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.eaugusto.persistence.metrics.LatencyHistogram;
+
+/**
+ * Execution time and rows of every statement sharing one
+ * {@link SqlFingerprint} on one persistence unit. Obtained from
+ * {@link StatementCapture}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class StatementStatistics {
+
+	private final String persistenceUnit;
+	private final String fingerprint;
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	private final LongAdder rows = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	StatementStatistics(String persistenceUnit, String fingerprint) {
+		this.persistenceUnit = persistenceUnit;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Records one execution.
+	 *
+	 * @param nanos    the time spent executing the statement and reading its rows
+	 * @param rowCount the rows read or written
+	 * @param failed   whether the statement threw
+	 */
+	void record(long nanos, long rowCount, boolean failed) {
+		latency.record(nanos);
+		if (rowCount > 0) {
+			rows.add(rowCount);
+		}
+		if (failed) {
+			errors.increment();
+		}
+	}
+
+	public StatementStatisticsSnapshot snapshot() {
+		return new StatementStatisticsSnapshot(persistenceUnit, fingerprint, rows.sum(), errors.sum(), latency.snapshot());
+	}
+
+	public String getPersistenceUnit() {
+		return persistenceUnit;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public void reset() {
+		latency.reset();
+		rows.reset();
+		errors.reset();
+	}
+}
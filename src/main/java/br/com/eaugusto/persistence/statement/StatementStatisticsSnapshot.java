@@ -0,0 +1,74 @@
+package br.com.eaugusto.persistence.statement;
+
+import br.com.eaugusto.persistence.metrics.LatencySnapshot;
+
+/**
+ * Point-in-time snapshot of the statistics of one statement fingerprint on one
+ * persistence unit.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since October 17, 2026
+ */
+public final class StatementStatisticsSnapshot {
+
+	private final String persistenceUnit;
+	private final String fingerprint;
+	private final long rows;
+	private final long errorCount;
+	private final LatencySnapshot latency;
+
+	StatementStatisticsSnapshot(String persistenceUnit, String fingerprint, long rows, long errorCount,
+			LatencySnapshot latency) {
+		this.persistenceUnit = persistenceUnit;
+		this.fingerprint = fingerprint;
+		this.rows = rows;
+		this.errorCount = errorCount;
+		this.latency = latency;
+	}
+
+	public String getPersistenceUnit() {
+		return persistenceUnit;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public long getCount() {
+		return latency.getCount();
+	}
+
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * @return the rows read by queries or written by updates, summed over every
+	 *         execution
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	public long getTotalNanos() {
+		return latency.getTotalNanos();
+	}
+
+	public long getMeanNanos() {
+		return latency.getMeanNanos();
+	}
+
+	public long getP99Nanos() {
+		return latency.getP99Nanos();
+	}
+
+	public LatencySnapshot getLatency() {
+		return latency;
+	}
+
+	@Override
+	public String toString() {
+		return "StatementStatisticsSnapshot[" + persistenceUnit + ": " + fingerprint + ", rows=" + rows + ", errors="
+				+ errorCount + ", " + latency + "]";
+	}
+}
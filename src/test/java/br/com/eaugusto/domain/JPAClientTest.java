@@ -2,13 +2,33 @@ package br.com.eaugusto.domain;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import br.com.eaugusto.dao.generics.BatchResult;
 import br.com.eaugusto.dao.generics.IJPAGenericDAO;
 import br.com.eaugusto.dao.generics.JPAGenericDAO;
+import br.com.eaugusto.dao.generics.Page;
+import br.com.eaugusto.dao.generics.WriteBehindRegistrar;
 import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.UnitOfWork;
 
 /**
  * Tests for the {@link JPAClient} entity and its DAO operations.
@@ -135,9 +155,225 @@ public class JPAClientTest {
         assertNull(searchClient, "Client should be deleted");
     }
 
+    @Test
+    public void registerAllTest() throws DAOException {
+        List<JPAClient> clients = Arrays.asList(
+                createClient("Ana", "44444444401"),
+                createClient("Bruno", "44444444402"),
+                createClient("Carla", "44444444403"));
+
+        BatchResult<JPAClient> result = clientDao.registerAll(clients);
+
+        assertTrue(result.isSuccessful(), "Every chunk should be committed");
+        assertEquals(3, result.getRegisteredCount());
+        assertTrue(result.getFailedEntities().isEmpty());
+        clients.forEach(client -> assertNotNull(client.getId(), "Batch registered client should have an ID"));
+        for (JPAClient client : clients) {
+            assertEquals(client.getId(), clientDao.findByNaturalId(client.getCpf()).getId(),
+                    "Batch registered client should be found by CPF");
+        }
+
+        for (JPAClient client : clients) {
+            clientDao.delete(client);
+            assertNull(clientDao.findById(client.getId()), "Client should be deleted");
+        }
+    }
+
+    @Test
+    public void findPageTest() throws DAOException {
+        List<JPAClient> clients = Arrays.asList(
+                createClient("Diego", "55555555503"),
+                createClient("Elisa", "55555555501"),
+                createClient("Fabio", "55555555502"));
+        clientDao.registerAll(clients);
+
+        Page<JPAClient> firstPage = clientDao.findPage((Long) null, 2);
+        assertEquals(2, firstPage.size());
+        assertTrue(firstPage.hasNext(), "A second page should exist");
+
+        Page<JPAClient> secondPage = clientDao.findPage(firstPage.getLastId(), 2);
+        assertEquals(1, secondPage.size());
+        assertFalse(secondPage.hasNext(), "The second page should be the last one");
+
+        Page<JPAClient> firstByCpf = clientDao.findPage("cpf", null, 2);
+        assertEquals("55555555501", firstByCpf.getItems().get(0).getCpf());
+        assertEquals("55555555502", firstByCpf.getItems().get(1).getCpf());
+
+        Page<JPAClient> secondByCpf = clientDao.findPage("cpf", firstByCpf.getNextCursor(), 2);
+        assertEquals(1, secondByCpf.size());
+        assertEquals("55555555503", secondByCpf.getItems().get(0).getCpf());
+
+        for (JPAClient client : clients) {
+            clientDao.delete(client);
+        }
+    }
+
+    @Test
+    public void bulkUpdateAndDeleteTest() throws DAOException {
+        List<JPAClient> clients = Arrays.asList(
+                createClient("Gabriel", "66666666601"),
+                createClient("Helena", "66666666602"),
+                createClient("Igor", "66666666603"));
+        clients.forEach(client -> client.setCity("Bulk Delete City"));
+        clientDao.registerAll(clients);
+        Map<String, String> ownClients = Map.of("city", "Bulk Delete City");
+
+        try {
+            assertEquals(3, clientDao.updateWhere(ownClients, Map.of("state", "Bulk State")),
+                    "Every client of the test should be updated");
+            assertEquals("Bulk State", clientDao.findById(clients.get(0).getId()).getState());
+
+            assertEquals(1, clientDao.deleteWhere(Map.of("cpf", "66666666601")));
+            assertEquals(1, clientDao.deleteByIds(List.of(clients.get(1).getId())));
+            assertNull(clientDao.findById(clients.get(1).getId()), "Bulk deleted client should be evicted");
+            assertEquals(1, clientDao.deleteWhere(ownClients));
+            assertNull(clientDao.findById(clients.get(2).getId()), "Every client of the test should be deleted");
+
+            assertThrows(DAOParameterException.class, () -> clientDao.deleteWhere(Map.of()));
+            assertThrows(DAOParameterException.class, () -> clientDao.updateWhere(Map.of("unknown", 1), Map.of("name", "X")));
+        } finally {
+            clientDao.deleteWhere(ownClients);
+        }
+    }
+
+    @Test
+    public void projectionTest() throws DAOException {
+        List<JPAClient> clients = Arrays.asList(
+                createClient("Julia", "77777777701"),
+                createClient("Kleber", "77777777702"),
+                createClient("Laura", "77777777703"));
+        clientDao.registerAll(clients);
+
+        List<ClientSummary> summaries = clientDao.findAllAs(ClientSummary.class);
+        assertTrue(summaries.contains(new ClientSummary(clients.get(0).getId(), "Julia", "77777777701")),
+                "Summary should hold the selected attributes");
+
+        Page<ClientName> page = clientDao.findPageAs(ClientName.class, null, 2);
+        assertEquals(page.getItems(), clientDao.findPageAs(ClientName.class, null, 2).getItems(),
+                "Interface projections with the same values should be equal");
+        List<String> pagedNames = new ArrayList<>();
+        while (true) {
+            page.getItems().stream()
+                    .filter(name -> name.getCpf().startsWith("777777777"))
+                    .forEach(name -> pagedNames.add(name.getName()));
+            if (!page.hasNext()) {
+                break;
+            }
+            page = clientDao.findPageAs(ClientName.class, page.getLastId(), 2);
+        }
+        assertEquals(List.of("Julia", "Kleber", "Laura"), pagedNames);
+
+        try (Stream<ClientSummary> stream = clientDao.streamAllAs(ClientSummary.class)) {
+            assertEquals(3, stream.filter(summary -> summary.cpf().startsWith("777")).count());
+        }
+
+        assertThrows(DAOParameterException.class, () -> clientDao.findAllAs(UnknownAttribute.class));
+        clients.forEach(clientDao::delete);
+    }
+
+    @Test
+    public void concurrentSharedDAOTest() throws Exception {
+        int tasks = 200;
+        Queue<String> crossTalk = new ConcurrentLinkedQueue<>();
+        List<Future<Long>> futures = new ArrayList<>(tasks);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int index = 0; index < tasks; index++) {
+                int task = index;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String name = "Concurrent " + task;
+                    JPAClient client = createClient(name, String.format("55%09d", task));
+                    JPAClient registered = task % 2 == 0 ? clientDao.register(client)
+                            : UnitOfWork.execute("JPA_Multi_Database_Testing", () -> clientDao.register(client));
+
+                    JPAClient found = clientDao.findById(registered.getId());
+                    if (found == null || !name.equals(found.getName())) {
+                        crossTalk.add(name + " read " + (found == null ? "nothing" : found.getName()));
+                        return registered.getId();
+                    }
+                    found.setCity("City " + task);
+                    JPAClient updated = clientDao.update(found);
+                    if (!registered.getId().equals(updated.getId()) || !("City " + task).equals(updated.getCity())) {
+                        crossTalk.add(name + " updated " + updated.getName() + " in " + updated.getCity());
+                    }
+                    return registered.getId();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Long> ids = new ArrayList<>(tasks);
+        for (Future<Long> future : futures) {
+            ids.add(future.get(60, TimeUnit.SECONDS));
+        }
+        assertTrue(crossTalk.isEmpty(), "Threads sharing one DAO should never see each other's entities: " + crossTalk);
+        assertEquals(tasks, new HashSet<>(ids).size(), "Every thread should register its own client");
+        assertEquals(tasks, clientDao.deleteByIds(ids));
+    }
+
+    @Test
+    public void writeBehindRegistrationTest() throws Exception {
+        List<JPAClient> clients = new ArrayList<>();
+        List<CompletableFuture<JPAClient>> futures = new ArrayList<>();
+        JPAClient duplicate = createClient("Duplicate", "66000000000");
+
+        try (WriteBehindRegistrar<JPAClient> registrar = new WriteBehindRegistrar<>(clientDao, 100, 25,
+                Duration.ofMillis(50), 3, Duration.ofSeconds(5))) {
+            for (int index = 0; index < 60; index++) {
+                JPAClient client = createClient("Write Behind " + index, String.format("66%09d", index));
+                clients.add(client);
+                futures.add(registrar.register(client));
+            }
+            futures.add(registrar.register(duplicate));
+        }
+
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone), "Closing should drain the queue");
+        List<Long> ids = new ArrayList<>();
+        for (int index = 0; index < clients.size(); index++) {
+            JPAClient registered = futures.get(index).get();
+            assertSame(clients.get(index), registered);
+            assertNotNull(clientDao.findById(registered.getId()), "Committed client should be found");
+            ids.add(registered.getId());
+        }
+        assertTrue(futures.get(clients.size()).isCompletedExceptionally(),
+                "A client with a duplicate CPF should fail alone after its retries");
+        assertNull(duplicate.getId());
+        assertEquals(clients.size(), clientDao.deleteByIds(ids));
+
+        assertThrows(DAOParameterException.class, () -> new WriteBehindRegistrar<>(clientDao, 100, 25,
+                Duration.ZERO, 3, Duration.ofSeconds(5)), "A zero window would make the flusher spin");
+    }
+
     @Test
     public void findByIdNonExistentTest() throws DAOException {
         JPAClient client = clientDao.findById(-1L);
         assertNull(client);
     }
+
+    private record ClientSummary(Long id, String name, String cpf) {
+    }
+
+    private interface ClientName {
+
+        String getName();
+
+        String getCpf();
+    }
+
+    private record UnknownAttribute(String nickname) {
+    }
+
+    private JPAClient createClient(String name, String cpf) {
+        JPAClient client = new JPAClient();
+        client.setName(name);
+        client.setCpf(cpf);
+        client.setPhone("(11) 90000-0000");
+        client.setAddress("Rua Batch");
+        client.setAddressNumber("1");
+        client.setCity("Batch City");
+        client.setState("Batch State");
+        return client;
+    }
 }
@@ -3,12 +3,16 @@ package br.com.eaugusto.domain;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,11 @@ import br.com.eaugusto.dao.IJPAClientDAO;
 import br.com.eaugusto.dao.JPAClientDAODB1;
 import br.com.eaugusto.dao.JPAClientDAODB2;
 import br.com.eaugusto.dao.JPAClientDAODB3;
+import br.com.eaugusto.dao.generics.BatchResult;
+import br.com.eaugusto.dao.generics.Page;
+import br.com.eaugusto.dao.routing.MultiDatabaseClientDAO;
+import br.com.eaugusto.dao.routing.ShardedClientDAO;
+import br.com.eaugusto.dao.routing.WritePolicy;
 import br.com.eaugusto.exceptions.DAOException;
 
 /**
@@ -160,6 +169,154 @@ public class JPAClientThreeDatabasesTest {
 		}
 	}
 
+	@Test
+	public void fanOutClientToAllDatabases() throws DAOException {
+		MultiDatabaseClientDAO<JPAClient> fanOutDao = new MultiDatabaseClientDAO<>(allDaos, WritePolicy.ALL,
+				Duration.ofSeconds(10));
+
+		JPAClient client = createClient();
+		fanOutDao.register(client);
+		assertNotNull(client.getId());
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			assertEquals(1, eachDao.findAll().size());
+		}
+
+		client.setName("Fan Out");
+		fanOutDao.update(client);
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			assertEquals("Fan Out", eachDao.findAll().iterator().next().getName());
+		}
+
+		fanOutDao.delete(client);
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			assertTrue(eachDao.findAll().isEmpty());
+		}
+	}
+
+	@Test
+	public void rejectQuorumWithoutPrimary() {
+		IJPAClientDAO<JPAClient> failingPrimary = new JPAClientDAODB1() {
+
+			@Override
+			public JPAClient register(JPAClient entity) {
+				throw new DAOException("Primary unavailable.");
+			}
+		};
+		MultiDatabaseClientDAO<JPAClient> fanOutDao = new MultiDatabaseClientDAO<>(
+				List.of(failingPrimary, clientDB2Dao, clientMySqlDBDao), WritePolicy.QUORUM, Duration.ofSeconds(10));
+
+		JPAClient client = createClient();
+		assertThrows(DAOException.class, () -> fanOutDao.register(client),
+				"Reads go to the primary, so a write it missed must be rejected");
+		assertNull(client.getId());
+		assertTrue(clientDB2Dao.findAll().isEmpty(), "The secondary databases should be compensated");
+		assertTrue(clientMySqlDBDao.findAll().isEmpty(), "The secondary databases should be compensated");
+	}
+
+	@Test
+	public void fanOutBatchToAllDatabases() throws DAOException {
+		MultiDatabaseClientDAO<JPAClient> fanOutDao = new MultiDatabaseClientDAO<>(allDaos, WritePolicy.ALL,
+				Duration.ofSeconds(10));
+
+		List<JPAClient> clients = List.of(createClient(), createClient(), createClient());
+		BatchResult<JPAClient> result = fanOutDao.registerAll(clients);
+		assertTrue(result.isSuccessful());
+		assertEquals(3, result.getRegisteredCount());
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			assertEquals(3, eachDao.findAll().size());
+		}
+
+		List<Long> ids = clients.stream().map(JPAClient::getId).collect(Collectors.toList());
+		assertEquals(3 * allDaos.size(), fanOutDao.deleteByIds(ids));
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			assertTrue(eachDao.findAll().isEmpty());
+		}
+	}
+
+	@Test
+	public void shardClientsAcrossDatabases() throws DAOException {
+		ShardedClientDAO shardedDao = new ShardedClientDAO(allDaos, Duration.ofSeconds(10));
+
+		for (int index = 0; index < 12; index++) {
+			JPAClient client = createClient();
+			shardedDao.register(client);
+			int shard = shardedDao.shardOf(client.getCpf());
+			assertEquals(shard, Math.floorMod(client.getId(), shardedDao.getShardCount()));
+
+			JPAClient found = shardedDao.findById(client.getId());
+			assertEquals(client.getCpf(), found.getCpf());
+			assertEquals(client.getId(), found.getId());
+		}
+
+		int storedOnShards = 0;
+		for (IJPAClientDAO<JPAClient> eachDao : allDaos) {
+			storedOnShards += eachDao.findAll().size();
+		}
+		assertEquals(12, storedOnShards);
+		assertEquals(12, shardedDao.findAll().size());
+
+		Page<JPAClient> page = shardedDao.findPage(null, 5);
+		int paged = page.size();
+		while (page.hasNext()) {
+			page = shardedDao.findPage(page.getLastId(), 5);
+			paged += page.size();
+		}
+		assertEquals(12, paged);
+	}
+
+	@Test
+	public void shardThroughDefaultConstructor() throws DAOException {
+		ShardedClientDAO shardedDao = new ShardedClientDAO();
+		assertEquals(3, shardedDao.getShardCount());
+
+		JPAClient client = createClient();
+		shardedDao.register(client);
+		JPAClient found = shardedDao.findById(client.getId());
+		assertNotNull(found);
+		assertEquals(client.getCpf(), found.getCpf());
+
+		assertEquals(1, shardedDao.deleteByIds(List.of(client.getId())));
+		assertNull(shardedDao.findById(client.getId()));
+	}
+
+	@Test
+	public void shardBatchAndPageByCpf() throws DAOException {
+		ShardedClientDAO shardedDao = new ShardedClientDAO(allDaos, Duration.ofSeconds(10));
+
+		List<JPAClient> clients = new ArrayList<>();
+		for (int index = 0; index < 12; index++) {
+			clients.add(createClient());
+		}
+		BatchResult<JPAClient> result = shardedDao.registerAll(clients);
+		assertTrue(result.isSuccessful());
+		assertEquals(12, result.getRegisteredCount());
+		for (JPAClient client : clients) {
+			assertEquals(client.getCpf(), shardedDao.findById(client.getId()).getCpf());
+		}
+
+		List<String> paged = new ArrayList<>();
+		Page<JPAClient> page = shardedDao.findPage("cpf", null, 5);
+		page.getItems().forEach(client -> paged.add(client.getCpf()));
+		while (page.hasNext()) {
+			page = shardedDao.findPage("cpf", page.getNextCursor(), 5);
+			page.getItems().forEach(client -> paged.add(client.getCpf()));
+		}
+		List<String> expected = clients.stream().map(JPAClient::getCpf).sorted().collect(Collectors.toList());
+		assertEquals(expected, paged);
+
+		List<Long> projectedIds = new ArrayList<>();
+		Page<ClientId> idPage = shardedDao.findPageAs(ClientId.class, null, 5);
+		idPage.getItems().forEach(client -> projectedIds.add(client.id()));
+		while (idPage.hasNext()) {
+			idPage = shardedDao.findPageAs(ClientId.class, idPage.getLastId(), 5);
+			idPage.getItems().forEach(client -> projectedIds.add(client.id()));
+		}
+		assertEquals(clients.stream().map(JPAClient::getId).sorted().collect(Collectors.toList()), projectedIds);
+	}
+
+	private record ClientId(Long id, String cpf) {
+	}
+
 	private JPAClient createClient() {
 		JPAClient client = new JPAClient();
 		client.setCpf(String.valueOf(randomNumber.nextInt(1_000_000_000)));
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Random;
 
@@ -14,6 +15,10 @@ import org.junit.jupiter.api.Test;
 import br.com.eaugusto.dao.IJPAClientDAO;
 import br.com.eaugusto.dao.JPAClientDAODB1;
 import br.com.eaugusto.dao.JPAClientDAODB2;
+import br.com.eaugusto.dao.generics.DelegatingJPAGenericDAO;
+import br.com.eaugusto.dao.generics.IJPAGenericDAO;
+import br.com.eaugusto.dao.routing.HedgeStats;
+import br.com.eaugusto.dao.routing.HedgedReadClientDAO;
 import br.com.eaugusto.exceptions.DAOException;
 
 /**
@@ -48,31 +53,8 @@ public class JPAClientTwoDatabasesTest {
 
 	@AfterEach
 	public void clearTestDatabases() throws DAOException {
-		Collection<JPAClient> database1ClientList = clientDB1Dao.findAll();
-		clearDatabase1(database1ClientList);
-
-		Collection<JPAClient> database2ClientList = clientDB2Dao.findAll();
-		clearDatabase2(database2ClientList);
-	}
-
-	private void clearDatabase1(Collection<JPAClient> database1ClientList) {
-		database1ClientList.forEach(client -> {
-			try {
-				clientDB1Dao.delete(client);
-			} catch (DAOException e) {
-				e.printStackTrace();
-			}
-		});
-	}
-
-	private void clearDatabase2(Collection<JPAClient> database2ClientList) {
-		database2ClientList.forEach(client -> {
-			try {
-				clientDB2Dao.delete(client);
-			} catch (DAOException e) {
-				e.printStackTrace();
-			}
-		});
+		clientDB1Dao.deleteAll();
+		clientDB2Dao.deleteAll();
 	}
 
 	@Test
@@ -250,6 +232,30 @@ public class JPAClientTwoDatabasesTest {
 		assertTrue(findAllDB2Clients.isEmpty());
 	}
 
+	@Test
+	public void hedgeSlowReadToSecondDatabase() throws DAOException {
+		JPAClient client = createClient();
+		clientDB2Dao.register(client);
+
+		IJPAClientDAO<JPAClient> slowDB1Dao = new SlowClientDAO(clientDB1Dao, 2_000);
+		HedgedReadClientDAO<JPAClient> hedgedDao = new HedgedReadClientDAO<>(slowDB1Dao, clientDB2Dao, 95,
+				Duration.ofMillis(20), Duration.ofMillis(20), 100);
+
+		long startedAt = System.nanoTime();
+		JPAClient found = hedgedDao.findById(client.getId());
+		long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		assertNotNull(found);
+		assertEquals(client.getCpf(), found.getCpf());
+		assertTrue(elapsedMillis < 2_000);
+
+		HedgeStats stats = hedgedDao.getStats();
+		assertEquals(1, stats.getReads());
+		assertEquals(1, stats.getHedges());
+		assertEquals(1, stats.getHedgeWins());
+		assertEquals(0, stats.getFailovers());
+	}
+
 	private JPAClient createClient() {
 		JPAClient client = new JPAClient();
 		client.setCpf(String.valueOf(randomNumber.nextInt(1_000_000_000)));
@@ -261,4 +267,42 @@ public class JPAClientTwoDatabasesTest {
 		client.setPhone("4499999999");
 		return client;
 	}
+
+	/**
+	 * Client DAO whose reads by ID wait before reaching the database, standing
+	 * in for a database stalled by a checkpoint.
+	 */
+	private static final class SlowClientDAO extends DelegatingJPAGenericDAO<JPAClient, Long>
+			implements IJPAClientDAO<JPAClient> {
+
+		private final IJPAClientDAO<JPAClient> dao;
+
+		private final long delayMillis;
+
+		private SlowClientDAO(IJPAClientDAO<JPAClient> dao, long delayMillis) {
+			this.dao = dao;
+			this.delayMillis = delayMillis;
+		}
+
+		@Override
+		protected IJPAGenericDAO<JPAClient, Long> readDelegate() {
+			return dao;
+		}
+
+		@Override
+		protected IJPAGenericDAO<JPAClient, Long> writeDelegate() {
+			return dao;
+		}
+
+		@Override
+		public JPAClient findById(Long id) throws DAOException {
+			try {
+				Thread.sleep(delayMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DAOException("Interrupted while stalling.", e);
+			}
+			return dao.findById(id);
+		}
+	}
 }
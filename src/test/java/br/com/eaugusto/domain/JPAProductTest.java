@@ -3,13 +3,30 @@ package br.com.eaugusto.domain;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import br.com.eaugusto.dao.IJPAProductDAO;
+import br.com.eaugusto.dao.JPAProductDAO;
+import br.com.eaugusto.dao.generics.AsyncJPAGenericDAO;
+import br.com.eaugusto.dao.generics.IAsyncJPAGenericDAO;
 import br.com.eaugusto.dao.generics.IJPAGenericDAO;
 import br.com.eaugusto.dao.generics.JPAGenericDAO;
 import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.persistence.cache.EntityCache;
+import br.com.eaugusto.persistence.cache.EntityCacheRegistry;
+import br.com.eaugusto.persistence.cache.NaturalIdCache;
+import br.com.eaugusto.persistence.metrics.DAOMetrics;
+import br.com.eaugusto.persistence.metrics.OperationMetrics;
+import br.com.eaugusto.persistence.metrics.OperationMetricsSnapshot;
+import br.com.eaugusto.persistence.statement.SqlFingerprint;
+import br.com.eaugusto.persistence.statement.StatementCapture;
+import br.com.eaugusto.persistence.statement.StatementStatisticsSnapshot;
 
 /**
  * Tests for the {@link JPAProduct} entity and its DAO functionality.
@@ -89,6 +106,135 @@ public class JPAProductTest {
         assertNull(searchProduct2, "Product2 should be deleted");
     }
 
+    @Test
+    public void streamAllTest() throws DAOException {
+        JPAProduct product1 = new JPAProduct();
+        product1.setCode("P4001");
+        product1.setName("Test Wooden Shelf");
+        product1.setDescription("Pine Wood Shelf");
+        product1.setPrice(new BigDecimal("80.00"));
+
+        JPAProduct product2 = new JPAProduct();
+        product2.setCode("P4002");
+        product2.setName("Test Wooden Stool");
+        product2.setDescription("Oak Wood Stool");
+        product2.setPrice(new BigDecimal("35.00"));
+
+        productDao.register(product1);
+        productDao.register(product2);
+
+        try {
+            try (Stream<JPAProduct> products = productDao.streamAll()) {
+                assertEquals(2, products.filter(product -> product.getCode().startsWith("P400")).count(),
+                        "Both test products should be streamed");
+            }
+
+            List<String> codes = new ArrayList<>();
+            productDao.forEach(product -> codes.add(product.getCode()));
+            assertTrue(codes.contains("P4001"));
+            assertTrue(codes.contains("P4002"));
+        } finally {
+            productDao.deleteByIds(List.of(product1.getId(), product2.getId()));
+        }
+        assertNull(productDao.findById(product1.getId()), "Product1 should be deleted");
+        assertNull(productDao.findById(product2.getId()), "Product2 should be deleted");
+    }
+
+    @Test
+    public void cachedFindByIdTest() throws DAOException {
+        JPAProduct product = new JPAProduct();
+        product.setCode("P5001");
+        product.setName("Test Wooden Desk");
+        product.setDescription("Walnut Wood Desk");
+        product.setPrice(new BigDecimal("120.00"));
+        productDao.register(product);
+
+        EntityCache<Object, JPAProduct> cache = EntityCacheRegistry.getCache("JPA_Multi_Database_Testing", JPAProduct.class);
+        assertNotNull(cache, "JPAProduct should be cacheable");
+        long hitsBefore = cache.getStats().getHits();
+
+        JPAProduct firstRead = productDao.findById(product.getId());
+        firstRead.setName("Changed Without Update");
+        JPAProduct secondRead = productDao.findById(product.getId());
+        assertEquals(hitsBefore + 1, cache.getStats().getHits(), "Second read should hit the cache");
+        assertEquals("Test Wooden Desk", secondRead.getName(), "Cached copy should not see caller changes");
+
+        secondRead.setName("Test Maple Desk");
+        productDao.update(secondRead);
+        assertEquals("Test Maple Desk", productDao.findById(product.getId()).getName(), "Update should invalidate the cache");
+
+        productDao.delete(secondRead);
+        assertNull(productDao.findById(product.getId()), "Delete should invalidate the cache");
+    }
+
+    @Test
+    public void findByCodeTest() throws DAOException {
+        IJPAProductDAO codeDao = new JPAProductDAO();
+        JPAProduct chair = new JPAProduct();
+        chair.setCode("P7001");
+        chair.setName("Test Wooden Chair");
+        chair.setDescription("Pine Wood Chair");
+        chair.setPrice(new BigDecimal("45.00"));
+        JPAProduct shelf = new JPAProduct();
+        shelf.setCode("P7002");
+        shelf.setName("Test Wooden Shelf");
+        shelf.setDescription("Birch Wood Shelf");
+        shelf.setPrice(new BigDecimal("80.00"));
+        codeDao.register(chair);
+        codeDao.register(shelf);
+
+        NaturalIdCache<Object, Long> cache = EntityCacheRegistry.getNaturalIdCache("JPA_Multi_Database_Testing",
+                JPAProduct.class);
+        assertNotNull(cache, "JPAProduct codes should be cached");
+        assertEquals(chair.getId(), codeDao.findByCode("P7001").getId());
+        long hitsBefore = cache.getStats().getHits();
+        assertEquals(chair.getId(), codeDao.findByCode("P7001").getId());
+        assertEquals(hitsBefore + 1, cache.getStats().getHits(), "Second lookup should resolve the code from the cache");
+
+        List<JPAProduct> found = codeDao.findByCodes(List.of("P7002", "P7999", "P7001"));
+        assertEquals(2, found.size(), "Unknown codes should be skipped");
+        assertEquals("P7002", found.get(0).getCode());
+        assertEquals("P7001", found.get(1).getCode());
+
+        JPAProduct renamed = codeDao.findByCode("P7001");
+        renamed.setCode("P7003");
+        codeDao.update(renamed);
+        assertNull(codeDao.findByCode("P7001"), "The old code should no longer resolve");
+        assertEquals(chair.getId(), codeDao.findByCode("P7003").getId());
+
+        codeDao.delete(renamed);
+        codeDao.delete(shelf);
+        assertNull(codeDao.findByCode("P7002"), "Delete should invalidate the code");
+    }
+
+    @Test
+    public void asyncRegisterAndFindTest() throws DAOException {
+        IAsyncJPAGenericDAO<JPAProduct, Long> asyncDao = new AsyncJPAGenericDAO<>(JPAProduct.class,
+                "JPA_Multi_Database_Testing");
+
+        JPAProduct product1 = new JPAProduct();
+        product1.setCode("P6001");
+        product1.setName("Test Wooden Bench");
+        product1.setDescription("Cedar Wood Bench");
+        product1.setPrice(new BigDecimal("70.00"));
+
+        JPAProduct product2 = new JPAProduct();
+        product2.setCode("P6002");
+        product2.setName("Test Wooden Bed");
+        product2.setDescription("Oak Wood Bed");
+        product2.setPrice(new BigDecimal("500.00"));
+
+        CompletableFuture.allOf(asyncDao.registerAsync(product1), asyncDao.registerAsync(product2)).join();
+
+        CompletableFuture<JPAProduct> found1 = asyncDao.findByIdAsync(product1.getId());
+        CompletableFuture<JPAProduct> found2 = asyncDao.findByIdAsync(product2.getId());
+        assertEquals("P6001", found1.join().getCode());
+        assertEquals("P6002", found2.join().getCode());
+
+        CompletableFuture.allOf(asyncDao.deleteAsync(product1), asyncDao.deleteAsync(product2)).join();
+        assertNull(asyncDao.findByIdAsync(product1.getId()).join(), "Product1 should be deleted");
+    }
+
     @Test
     public void updateTest() throws DAOException {
         JPAProduct product = new JPAProduct();
@@ -119,4 +265,53 @@ public class JPAProductTest {
         JPAProduct product = productDao.findById(-1L);
         assertNull(product, "Finding non-existent product should return null");
     }
+
+    @Test
+    public void metricsTest() throws DAOException {
+        OperationMetrics registerMetrics = DAOMetrics.forOperation("JPA_Multi_Database_Testing", JPAProduct.class, "register");
+        OperationMetrics findMetrics = DAOMetrics.forOperation("JPA_Multi_Database_Testing", JPAProduct.class, "findById");
+        registerMetrics.reset();
+        findMetrics.reset();
+
+        JPAProduct product = new JPAProduct();
+        product.setCode("P8001");
+        product.setName("Test Metrics Lamp");
+        product.setDescription("Lamp Used To Test Metrics");
+        product.setPrice(new BigDecimal("35.00"));
+        productDao.register(product);
+        productDao.findById(product.getId());
+
+        OperationMetricsSnapshot registered = registerMetrics.snapshot();
+        assertTrue(registered.getCount() >= 1, "Register should be counted");
+        assertTrue(registered.getRowsAffected() >= 1, "Register should count the written row");
+        assertTrue(registered.getCommitLatency().getMaxNanos() > 0, "Commit phase should be timed");
+        assertTrue(findMetrics.getCount() >= 1, "FindById should be counted");
+        assertTrue(findMetrics.getLatency().getP99Nanos() >= findMetrics.getLatency().getP50Nanos());
+        assertTrue(DAOMetrics.snapshot("JPA_Multi_Database_Testing").stream()
+                .anyMatch(snapshot -> snapshot.getEntity().equals("JPAProduct") && snapshot.getOperation().equals("findById")));
+
+        productDao.delete(product);
+    }
+
+    @Test
+    public void statementStatisticsTest() throws DAOException {
+        assertEquals("select * from t where a = ? and b in (?)",
+                SqlFingerprint.of("SELECT *\n  FROM t -- comment\n WHERE a = 'x''y' AND b IN (1, 2, 3)"));
+
+        JPAProduct product = new JPAProduct();
+        product.setCode("P9001");
+        product.setName("Test Statement Shelf");
+        product.setDescription("Shelf Used To Test Statement Statistics");
+        product.setPrice(new BigDecimal("80.00"));
+        productDao.register(product);
+        productDao.findAll();
+
+        List<StatementStatisticsSnapshot> statistics = StatementCapture.snapshot("JPA_Multi_Database_Testing");
+        assertTrue(statistics.stream().anyMatch(snapshot -> snapshot.getFingerprint().startsWith("insert into")
+                && snapshot.getCount() >= 1 && snapshot.getRows() >= 1), "Inserts should be captured with their rows");
+        assertTrue(statistics.stream().anyMatch(snapshot -> snapshot.getFingerprint().startsWith("select")
+                && snapshot.getRows() >= 1 && snapshot.getP99Nanos() > 0), "Queries should be captured with their rows");
+
+        productDao.delete(product);
+    }
 }
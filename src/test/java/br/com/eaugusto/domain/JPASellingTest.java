@@ -4,13 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +27,10 @@ import org.junit.jupiter.api.Test;
 import br.com.eaugusto.dao.JPAClientDAODB1;
 import br.com.eaugusto.dao.JPAProductDAO;
 import br.com.eaugusto.dao.JPASellingDAO;
+import br.com.eaugusto.dao.routing.ReadWriteSplitSellingDAO;
 import br.com.eaugusto.exceptions.DAOException;
+import br.com.eaugusto.exceptions.DAOParameterException;
+import br.com.eaugusto.persistence.UnitOfWork;
 
 /**
  * Integration and unit tests for {@link JPASelling} entity and related DAOs.
@@ -26,6 +38,7 @@ import br.com.eaugusto.exceptions.DAOException;
  * Covers:
  * <ul>
  * <li>Registering sales and fetching with collections</li>
+ * <li>Loading sales through named fetch plans</li>
  * <li>Testing status ENUM retrieval</li>
  * <li>Adding, removing, and updating products within sales</li>
  * <li>Validation of business rules such as preventing modifications to finished
@@ -100,6 +113,66 @@ public class JPASellingTest {
 		productDAO.delete(product);
 	}
 
+	@Test
+	public void testRegisterSellingInUnitOfWork() {
+		JPAClient client = new JPAClient();
+		client.setName("Unit Client");
+		client.setCpf("22233344455");
+		client.setPhone("00000-0000");
+		client.setAddress("Unit Street");
+		client.setAddressNumber("2");
+		client.setCity("Unit City");
+		client.setState("Unit State");
+
+		JPAProduct product = new JPAProduct();
+		product.setCode("UNIT123");
+		product.setName("Unit Product");
+		product.setDescription("Unit Description");
+		product.setPrice(new BigDecimal("12.00"));
+
+		JPASelling selling = new JPASelling();
+		selling.setCode("UNITSELL1");
+		selling.setClient(client);
+		selling.setDateSold(Instant.now());
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		selling.addProduct(product, 2);
+
+		try (UnitOfWork work = UnitOfWork.begin("JPA_Multi_Database_Testing")) {
+			clientDAO.register(client);
+			productDAO.register(product);
+			sellingDAO.register(selling);
+			work.commit();
+		}
+
+		JPASelling fetchedSelling = sellingDAO.findWithCollections(selling.getId());
+		assertEquals(client.getCpf(), fetchedSelling.getClient().getCpf());
+		assertEquals(1, fetchedSelling.getProducts().size());
+
+		sellingDAO.testCleanupDelete(fetchedSelling);
+		clientDAO.delete(client);
+		productDAO.delete(product);
+	}
+
+	@Test
+	public void testUnitOfWorkRollsBackWithoutCommit() {
+		JPAClient client = new JPAClient();
+		client.setName("Rollback Client");
+		client.setCpf("33344455566");
+		client.setPhone("00000-0000");
+		client.setAddress("Rollback Street");
+		client.setAddressNumber("3");
+		client.setCity("Rollback City");
+		client.setState("Rollback State");
+
+		try (UnitOfWork work = UnitOfWork.begin("JPA_Multi_Database_Testing")) {
+			assertSame(work, UnitOfWork.current("JPA_Multi_Database_Testing"));
+			clientDAO.register(client);
+			assertNotNull(clientDAO.findById(client.getId()));
+		}
+
+		assertNull(clientDAO.findById(client.getId()));
+	}
+
 	@Test
 	public void testStatusGetByName() {
 		assertEquals(JPASelling.Status.STARTED, JPASelling.Status.getByName("started"));
@@ -276,6 +349,141 @@ public class JPASellingTest {
 		productDAO.delete(product);
 	}
 
+	@Test
+	public void testReadWriteSplitReadsOwnWrites() {
+		JPAClient client = new JPAClient();
+		client.setName("Replica Client");
+		client.setCpf("55566677788");
+		client.setPhone("12345-6789");
+		client.setAddress("Replica Street");
+		client.setAddressNumber("7");
+		client.setCity("Replica City");
+		client.setState("Replica State");
+		clientDAO.register(client);
+
+		JPAProduct product = new JPAProduct();
+		product.setCode("REPLPROD1");
+		product.setName("Replica Product");
+		product.setDescription("Desc");
+		product.setPrice(new BigDecimal("30.00"));
+		productDAO.register(product);
+
+		JPASelling selling = new JPASelling();
+		selling.setCode("REPLICA001");
+		selling.setClient(client);
+		selling.setDateSold(Instant.now());
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		selling.addProduct(product, 2);
+
+		ReadWriteSplitSellingDAO splitDAO = new ReadWriteSplitSellingDAO();
+		splitDAO.register(selling);
+		assertFalse(splitDAO.getRouter().useReplica());
+
+		JPASelling fetched = splitDAO.findWithCollections(selling.getId());
+		assertEquals(selling.getCode(), fetched.getCode());
+
+		sellingDAO.testCleanupDelete(fetched);
+		clientDAO.delete(client);
+		productDAO.delete(product);
+	}
+
+	@Test
+	public void testFetchPlansLoadOnlyRequestedAssociations() {
+		JPAClient client = new JPAClient();
+		client.setName("Plan Client");
+		client.setCpf("66677788899");
+		client.setPhone("12345-6789");
+		client.setAddress("Plan Street");
+		client.setAddressNumber("8");
+		client.setCity("Plan City");
+		client.setState("Plan State");
+		clientDAO.register(client);
+
+		JPAProduct product = new JPAProduct();
+		product.setCode("PLANPROD");
+		product.setName("Plan Product");
+		product.setDescription("Desc");
+		product.setPrice(new BigDecimal("15.00"));
+		productDAO.register(product);
+
+		JPASelling selling = new JPASelling();
+		selling.setCode("PLAN001");
+		selling.setClient(client);
+		selling.setDateSold(Instant.now());
+		selling.setSellingStatus(JPASelling.Status.STARTED);
+		selling.addProduct(product, 3);
+		sellingDAO.register(selling);
+
+		PersistenceUtil persistenceUtil = Persistence.getPersistenceUtil();
+		JPASelling header = sellingDAO.findById(selling.getId(), JPASelling.GRAPH_HEADER_ONLY);
+		assertEquals(selling.getCode(), header.getCode());
+		assertFalse(persistenceUtil.isLoaded(header, "products"));
+
+		JPASelling withClient = sellingDAO.findById(selling.getId(), JPASelling.GRAPH_WITH_CLIENT);
+		assertEquals(client.getCpf(), withClient.getClient().getCpf());
+		assertFalse(persistenceUtil.isLoaded(withClient, "products"));
+
+		JPASelling full = sellingDAO.findById(selling.getId(), JPASelling.GRAPH_FULL);
+		assertTrue(persistenceUtil.isLoaded(full, "products"));
+		assertEquals(selling.getTotalProductQuantity(), full.getTotalProductQuantity());
+		assertEquals(product.getCode(), full.getProducts().iterator().next().getProduct().getCode());
+
+		assertThrows(DAOParameterException.class, () -> sellingDAO.findById(selling.getId(), "JPASelling.unknown"));
+
+		sellingDAO.testCleanupDelete(full);
+		clientDAO.delete(client);
+		productDAO.delete(product);
+	}
+
+	@Test
+	public void testFindPageRejectsAssociationSortAttribute() {
+		assertThrows(DAOParameterException.class, () -> sellingDAO.findPage("client", null, 5));
+		assertThrows(DAOParameterException.class, () -> sellingDAO.findPage("unknown", null, 5));
+	}
+
+	@Test
+	public void testStreamAllLoadsLazyClientsBetweenClears() {
+		JPAClient client = new JPAClient();
+		client.setName("Stream Client");
+		client.setCpf("77788899900");
+		client.setPhone("12345-6789");
+		client.setAddress("Stream Street");
+		client.setAddressNumber("9");
+		client.setCity("Stream City");
+		client.setState("Stream State");
+		clientDAO.register(client);
+
+		List<JPASelling> sellings = new ArrayList<>();
+		for (int index = 1; index <= 5; index++) {
+			JPASelling selling = new JPASelling();
+			selling.setCode("STREAM00" + index);
+			selling.setClient(client);
+			selling.setTotalPrice(BigDecimal.ZERO);
+			selling.setDateSold(Instant.now());
+			selling.setSellingStatus(JPASelling.Status.STARTED);
+			sellingDAO.register(selling);
+			sellings.add(selling);
+		}
+
+		JPASellingDAO clearingDAO = new JPASellingDAO() {
+
+			@Override
+			protected int getStreamClearInterval() {
+				return 2;
+			}
+		};
+		try (Stream<JPASelling> stream = clearingDAO.streamAll()) {
+			List<String> names = stream.filter(selling -> selling.getCode().startsWith("STREAM00"))
+					.map(selling -> selling.getClient().getName())
+					.collect(Collectors.toList());
+			assertEquals(5, names.size());
+			assertTrue(names.stream().allMatch("Stream Client"::equals));
+		} finally {
+			sellings.forEach(sellingDAO::testCleanupDelete);
+			clientDAO.delete(client);
+		}
+	}
+
 	@Test
 	public void testDeleteThrowsUnsupportedOperationException() {
 		assertThrows(UnsupportedOperationException.class, () -> sellingDAO.delete(new JPASelling()));